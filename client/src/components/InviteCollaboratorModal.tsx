@@ -1,9 +1,9 @@
-import React, { useState } from 'react';
+import React, { useRef, useState } from 'react';
 import { Modal, Form, Button, ListGroup, Image, Spinner, Alert } from 'react-bootstrap';
 import { Search, UserPlus, Check } from 'lucide-react';
 import { authService } from '../services/authService';
 import { collaborationService } from '../services/collaborationService';
-import { UserResponse } from '../types';
+import { UserResponse, UserSummaryResponse } from '../types';
 import { useAuth } from '../contexts/AuthContext';
 
 interface InviteCollaboratorModalProps {
@@ -21,11 +21,12 @@ const InviteCollaboratorModal: React.FC<InviteCollaboratorModalProps> = ({
 }) => {
     const { user: currentUser } = useAuth();
     const [keyword, setKeyword] = useState('');
-    const [searchResults, setSearchResults] = useState<UserResponse[]>([]);
+    const [searchResults, setSearchResults] = useState<UserSummaryResponse[]>([]);
     const [suggestedUsers, setSuggestedUsers] = useState<UserResponse[]>([]);
     const [isLoading, setIsLoading] = useState(false);
     const [invitedUsers, setInvitedUsers] = useState<number[]>([]);
     const [error, setError] = useState<string | null>(null);
+    const latestQuery = useRef('');
 
     React.useEffect(() => {
         if (show && currentUser?.id) {
@@ -58,24 +59,42 @@ const InviteCollaboratorModal: React.FC<InviteCollaboratorModalProps> = ({
         }
     };
 
-    const handleSearch = async (e: React.FormEvent) => {
-        e.preventDefault();
-        if (!keyword.trim()) return;
+    const searchUsers = async (value: string) => {
+        const prefix = value.trim();
+        latestQuery.current = prefix;
+        if (!prefix) {
+            setSearchResults([]);
+            return;
+        }
 
         setIsLoading(true);
         setError(null);
         try {
-            const results = await authService.searchUsers(keyword);
-            
-            setSearchResults(results.filter(u => u.id !== currentUser?.id));
+            const results = await authService.autocompleteUsers(prefix);
+            // Ignore responses for prefixes the user has already typed past.
+            if (latestQuery.current === prefix) {
+                setSearchResults(results.filter(u => u.id !== currentUser?.id));
+            }
         } catch (err) {
             console.error('Failed to search users', err);
             setError('Failed to search users');
         } finally {
-            setIsLoading(false);
+            if (latestQuery.current === prefix) {
+                setIsLoading(false);
+            }
         }
     };
 
+    const handleSearch = (e: React.FormEvent) => {
+        e.preventDefault();
+        searchUsers(keyword);
+    };
+
+    const handleKeywordChange = (value: string) => {
+        setKeyword(value);
+        searchUsers(value);
+    };
+
     const handleInvite = async (userId: number) => {
         if (!currentUser?.id) return;
         try {
@@ -92,7 +111,7 @@ const InviteCollaboratorModal: React.FC<InviteCollaboratorModalProps> = ({
         }
     };
 
-    const displayUsers = keyword ? searchResults : suggestedUsers;
+    const displayUsers: Array<UserResponse | UserSummaryResponse> = keyword ? searchResults : suggestedUsers;
 
     return (
         <Modal show={show} onHide={onHide} centered>
@@ -108,7 +127,7 @@ const InviteCollaboratorModal: React.FC<InviteCollaboratorModalProps> = ({
                                 type="text"
                                 placeholder="Search by name or email"
                                 value={keyword}
-                                onChange={(e) => setKeyword(e.target.value)}
+                                onChange={(e) => handleKeywordChange(e.target.value)}
                                 className="rounded-pill ps-5"
                             />
                         </div>
@@ -132,7 +151,7 @@ const InviteCollaboratorModal: React.FC<InviteCollaboratorModalProps> = ({
                         <ListGroup.Item key={user.id} className="d-flex align-items-center justify-content-between border-0 px-0 py-2">
                             <div className="d-flex align-items-center">
                                 <Image
-                                    src={user.avatar || `https://api.dicebear.com/7.x/avataaars/svg?seed=${user.username}`}
+                                    src={('avatar' in user && user.avatar) || `https://api.dicebear.com/7.x/avataaars/svg?seed=${user.username}`}
                                     roundedCircle
                                     width={40}
                                     height={40}
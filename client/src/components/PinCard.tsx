@@ -6,6 +6,7 @@ import { Pin, Board } from '../types';
 import SaveToBoardModal from './SaveToBoardModal';
 import PinDetailModal from './PinDetailModal';
 import { contentService } from '../services/contentService';
+import { resolveImageUrl } from '../utils/api';
 
 interface PinCardProps {
   pin: Pin;
@@ -41,7 +42,7 @@ const PinCard: React.FC<PinCardProps> = ({ pin }) => {
 
   const handleDownload = async () => {
     try {
-      const response = await fetch(pin.imageUrl);
+      const response = await fetch(resolveImageUrl(pin.imageUrl));
       const blob = await response.blob();
       const url = window.URL.createObjectURL(blob);
       const link = document.createElement('a');
@@ -103,7 +104,7 @@ const PinCard: React.FC<PinCardProps> = ({ pin }) => {
             </Dropdown>
           </div>
 
-          <img src={pin.imageUrl} alt={pin.title} loading="lazy" />
+          <img src={resolveImageUrl(pin.imageUrl)} alt={pin.title} loading="lazy" />
 
           { }
           <div className="pin-title-overlay">
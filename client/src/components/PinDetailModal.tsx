@@ -6,6 +6,7 @@ import { useAuth } from '../contexts/AuthContext';
 import { contentService } from '../services/contentService';
 import { collaborationService } from '../services/collaborationService';
 import { authService } from '../services/authService';
+import { resolveImageUrl } from '../utils/api';
 import SaveToBoardModal from './SaveToBoardModal';
 import ReportModal from './ReportModal';
 
@@ -35,21 +36,24 @@ const PinDetailModal: React.FC<PinDetailModalProps> = ({ show, onHide, pin }) =>
   const loadPinDetails = async () => {
     try {
       
-      const fetchedComments = await contentService.getComments(pin.id);
-      setComments(fetchedComments);
+      const feed = await contentService.getCommentFeed(pin.id);
+      setComments(feed.comments.map(c => ({
+        ...c,
+        username: c.author?.displayName || c.author?.username,
+        avatar: c.author?.avatarUrl ? resolveImageUrl(c.author.avatarUrl) : undefined,
+      })));
 
       
       const authorData = await authService.getProfile(pin.userId);
       setAuthor(authorData);
 
       
-      const followers = await collaborationService.getFollowers(pin.userId);
-      setFollowersCount(followers.length);
+      const counts = await collaborationService.getConnectionCounts(pin.userId);
+      setFollowersCount(counts.followersCount);
 
       
       if (user) {
-        const myFollowing = await collaborationService.getFollowing(user.id);
-        setIsFollowing(myFollowing.some(c => c.followingId === pin.userId));
+        setIsFollowing(await collaborationService.isFollowing(user.id, pin.userId));
       }
     } catch (error) {
       console.error('Failed to load pin details:', error);
@@ -61,7 +65,7 @@ const PinDetailModal: React.FC<PinDetailModalProps> = ({ show, onHide, pin }) =>
     if (comment.trim() && user) {
       try {
         const newComment = await contentService.createComment({ text: comment, pinId: pin.id });
-        setComments([...comments, { ...newComment, username: user.username, avatar: user.avatar }]);
+        setComments([{ ...newComment, username: user.username, avatar: user.avatar }, ...comments]);
         setComment('');
       } catch (error) {
         console.error('Failed to add comment:', error);
@@ -100,7 +104,7 @@ const PinDetailModal: React.FC<PinDetailModalProps> = ({ show, onHide, pin }) =>
 
   const handleDownload = async () => {
     try {
-      const response = await fetch(pin.imageUrl);
+      const response = await fetch(resolveImageUrl(pin.imageUrl));
       const blob = await response.blob();
       const url = window.URL.createObjectURL(blob);
       const link = document.createElement('a');
@@ -133,7 +137,7 @@ const PinDetailModal: React.FC<PinDetailModalProps> = ({ show, onHide, pin }) =>
             { }
             <div className="col-md-7 bg-white d-flex align-items-center justify-content-center p-4" style={{ height: '90vh' }}>
               <img
-                src={pin.imageUrl}
+                src={resolveImageUrl(pin.imageUrl)}
                 alt={pin.title}
                 style={{
                   maxWidth: '100%',
@@ -236,7 +240,7 @@ const PinDetailModal: React.FC<PinDetailModalProps> = ({ show, onHide, pin }) =>
                 { }
                 <div className="d-flex gap-4 mb-3" style={{ fontSize: '14px', color: '#4a5565' }}>
                   <span>{pin.savesCount || 0} saves</span>
-                  <span>{comments.length} comments</span>
+                  <span>{Math.max(pin.commentsCount || 0, comments.length)} comments</span>
                 </div>
 
                 { }
@@ -268,7 +272,7 @@ const PinDetailModal: React.FC<PinDetailModalProps> = ({ show, onHide, pin }) =>
 
                 { }
                 <div className="mb-4">
-                  <h5 className="mb-3">{comments.length} Comments</h5>
+                  <h5 className="mb-3">{Math.max(pin.commentsCount || 0, comments.length)} Comments</h5>
 
                   <div className="mb-3">
                     {comments.map((c) => (
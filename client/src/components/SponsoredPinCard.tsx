@@ -1,6 +1,7 @@
 import React from 'react';
 import { Card, Button, Badge, Dropdown } from 'react-bootstrap';
 import { Pin } from '../types';
+import { resolveImageUrl } from '../utils/api';
 import { ExternalLink, MoreHorizontal, Edit2, Trash2, TrendingUp } from 'lucide-react';
 
 interface SponsoredPinCardProps {
@@ -31,7 +32,7 @@ const SponsoredPinCard: React.FC<SponsoredPinCardProps> = ({
             <div className="position-relative">
                 <Card.Img
                     variant="top"
-                    src={pin.imageUrl}
+                    src={resolveImageUrl(pin.imageUrl)}
                     style={{ height: '300px', objectFit: 'cover' }}
                 />
                 <div
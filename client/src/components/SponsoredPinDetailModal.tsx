@@ -1,6 +1,7 @@
 import React from 'react';
 import { Modal, Button, Badge } from 'react-bootstrap';
 import { Pin } from '../types';
+import { resolveImageUrl } from '../utils/api';
 import { ExternalLink, TrendingUp, Heart, MessageCircle, Share2, X } from 'lucide-react';
 
 interface SponsoredPinDetailModalProps {
@@ -37,7 +38,7 @@ const SponsoredPinDetailModal: React.FC<SponsoredPinDetailModalProps> = ({
                         <div
                             className="position-absolute w-100 h-100"
                             style={{
-                                backgroundImage: `url(${pin.imageUrl})`,
+                                backgroundImage: `url(${resolveImageUrl(pin.imageUrl)})`,
                                 backgroundSize: 'cover',
                                 backgroundPosition: 'center',
                                 filter: 'blur(20px)',
@@ -45,7 +46,7 @@ const SponsoredPinDetailModal: React.FC<SponsoredPinDetailModalProps> = ({
                             }}
                         />
                         <img
-                            src={pin.imageUrl}
+                            src={resolveImageUrl(pin.imageUrl)}
                             alt={pin.title}
                             style={{
                                 maxWidth: '100%',
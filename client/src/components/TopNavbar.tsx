@@ -5,6 +5,7 @@ import { Form, Image, ListGroup } from 'react-bootstrap';
 import { useAuth } from '../contexts/AuthContext';
 import { contentService } from '../services/contentService';
 import { PinResponse } from '../types';
+import { resolveImageUrl } from '../utils/api';
 import ProfileDropdown from './ProfileDropdown';
 
 const TopNavbar: React.FC = () => {
@@ -125,7 +126,7 @@ const TopNavbar: React.FC = () => {
                   className="d-flex gap-3 align-items-center cursor-pointer"
                 >
                   <img
-                    src={pin.imageUrl}
+                    src={resolveImageUrl(pin.imageUrl)}
                     alt={pin.title}
                     style={{
                       width: '60px',
@@ -8,7 +8,9 @@ interface PinContextType {
     selectedPin: PinResponse | null;
     isLoading: boolean;
     error: string | null;
+    hasMorePublicPins: boolean;
     fetchPublicPins: () => Promise<void>;
+    loadMorePublicPins: () => Promise<void>;
     fetchUserPins: (userId: number) => Promise<void>;
     fetchUserDrafts: () => Promise<void>;
     fetchPinById: (pinId: number) => Promise<void>;
@@ -36,6 +38,8 @@ export const PinProvider: React.FC<{ children: ReactNode }> = ({ children }) =>
     const [error, setError] = useState<string | null>(null);
 
     const [drafts, setDrafts] = useState<PinResponse[]>([]);
+    const [publicCursor, setPublicCursor] = useState<string | null>(null);
+    const [hasMorePublicPins, setHasMorePublicPins] = useState(false);
 
     const clearError = useCallback(() => setError(null), []);
 
@@ -43,8 +47,10 @@ export const PinProvider: React.FC<{ children: ReactNode }> = ({ children }) =>
         setIsLoading(true);
         setError(null);
         try {
-            const data = await contentService.getPublicPins();
-            setPins(data);
+            const page = await contentService.getPublicFeed();
+            setPins(page.pins);
+            setPublicCursor(page.nextCursor || null);
+            setHasMorePublicPins(page.hasMore);
         } catch (err: any) {
             setError(err.response?.data?.message || 'Failed to fetch public pins');
         } finally {
@@ -52,6 +58,26 @@ export const PinProvider: React.FC<{ children: ReactNode }> = ({ children }) =>
         }
     }, []);
 
+    const loadMorePublicPins = useCallback(async () => {
+        if (!publicCursor || isLoading) {
+            return;
+        }
+        setIsLoading(true);
+        try {
+            const page = await contentService.getPublicFeed(publicCursor);
+            setPins((prev) => {
+                const known = new Set(prev.map((pin) => pin.id));
+                return [...prev, ...page.pins.filter((pin) => !known.has(pin.id))];
+            });
+            setPublicCursor(page.nextCursor || null);
+            setHasMorePublicPins(page.hasMore);
+        } catch (err: any) {
+            setError(err.response?.data?.message || 'Failed to fetch public pins');
+        } finally {
+            setIsLoading(false);
+        }
+    }, [publicCursor, isLoading]);
+
     const fetchUserPins = useCallback(async (userId: number) => {
         setIsLoading(true);
         setError(null);
@@ -171,7 +197,9 @@ export const PinProvider: React.FC<{ children: ReactNode }> = ({ children }) =>
                 selectedPin,
                 isLoading,
                 error,
+                hasMorePublicPins,
                 fetchPublicPins,
+                loadMorePublicPins,
                 fetchUserPins,
                 fetchUserDrafts,
                 fetchPinById,
@@ -5,25 +5,33 @@ import { useNavigate } from 'react-router-dom';
 import { businessService } from '../services/businessService';
 import { collaborationService } from '../services/collaborationService';
 import { contentService } from '../services/contentService';
-import { BusinessProfileResponse, Pin } from '../types';
+import { BusinessDirectoryEntry, BusinessDirectorySort, BusinessProfileResponse, BusinessSuggestion, Pin } from '../types';
+import { resolveImageUrl } from '../utils/api';
 import CreateBusinessProfileModal from '../components/CreateBusinessProfileModal';
 import CreateSponsoredPinModal from '../components/CreateSponsoredPinModal';
 import SponsoredPinCard from '../components/SponsoredPinCard';
 import SponsoredPinDetailModal from '../components/SponsoredPinDetailModal';
 import { useAuth } from '../contexts/AuthContext';
 
+const DIRECTORY_PAGE_SIZE = 24;
+
 const BusinessHubPage: React.FC = () => {
     const navigate = useNavigate();
     const { user } = useAuth();
-    const [profiles, setProfiles] = useState<BusinessProfileResponse[]>([]);
+    const [profiles, setProfiles] = useState<BusinessDirectoryEntry[]>([]);
+    const [myProfile, setMyProfile] = useState<BusinessProfileResponse | null>(null);
+    const [sort, setSort] = useState<BusinessDirectorySort>('followers');
+    const [page, setPage] = useState(0);
+    const [hasMore, setHasMore] = useState(false);
+    const [isLoadingMore, setIsLoadingMore] = useState(false);
     const [sponsoredPins, setSponsoredPins] = useState<Pin[]>([]);
     const [isLoading, setIsLoading] = useState(true);
     const [keyword, setKeyword] = useState('');
+    const [suggestions, setSuggestions] = useState<BusinessSuggestion[]>([]);
     const [showCreateModal, setShowCreateModal] = useState(false);
     const [showSponsoredModal, setShowSponsoredModal] = useState(false);
     const [editingPin, setEditingPin] = useState<Pin | null>(null);
     const [selectedSponsoredPin, setSelectedSponsoredPin] = useState<Pin | null>(null);
-    const [userHasProfile, setUserHasProfile] = useState(false);
     const [activeTab, setActiveTab] = useState('profiles');
 
     const [followingIds, setFollowingIds] = useState<Set<number>>(new Set());
@@ -38,7 +46,7 @@ const BusinessHubPage: React.FC = () => {
         if (user?.id) {
             fetchFollowing();
         }
-    }, [user?.id, activeTab]);
+    }, [user?.id, activeTab, sort]);
 
     const fetchFollowing = async () => {
         if (!user?.id) return;
@@ -76,7 +84,7 @@ const BusinessHubPage: React.FC = () => {
     const checkUserProfile = async () => {
         if (user?.id) {
             const profile = await businessService.getProfileByUserId(user.id);
-            setUserHasProfile(!!profile);
+            setMyProfile(profile);
         }
     };
 
@@ -103,26 +111,22 @@ const BusinessHubPage: React.FC = () => {
         }
     };
 
-    const fetchProfiles = async () => {
-        setIsLoading(true);
+    const fetchProfiles = async (nextPage = 0) => {
+        const append = nextPage > 0;
+        if (append) {
+            setIsLoadingMore(true);
+        } else {
+            setIsLoading(true);
+        }
         try {
-            const data = await businessService.getAllBusinessProfiles();
-
-            
-            const profilesWithCounts = await Promise.all(data.map(async (profile) => {
-                try {
-                    const followers = await collaborationService.getFollowers(profile.userId);
-                    return { ...profile, followersCount: followers.length };
-                } catch (e) {
-                    console.error(`Failed to fetch followers for ${profile.businessName}`, e);
-                    return profile;
-                }
-            }));
-
-            setProfiles(profilesWithCounts);
+            const data = await businessService.getBusinessDirectory({ sort, page: nextPage, size: DIRECTORY_PAGE_SIZE });
+            setProfiles(prev => append ? [...prev, ...data.profiles] : data.profiles);
+            setPage(data.page);
+            setHasMore(data.hasMore);
         } catch (error) {
             console.error('Failed to fetch business profiles', error);
         } finally {
+            setIsLoadingMore(false);
             setIsLoading(false);
         }
     };
@@ -132,19 +136,10 @@ const BusinessHubPage: React.FC = () => {
         setIsLoading(true);
         try {
             if (keyword.trim()) {
-                const data = await businessService.searchBusinessProfiles(keyword);
-
-                
-                const profilesWithCounts = await Promise.all(data.map(async (profile) => {
-                    try {
-                        const followers = await collaborationService.getFollowers(profile.userId);
-                        return { ...profile, followersCount: followers.length };
-                    } catch (e) {
-                        return profile;
-                    }
-                }));
-
-                setProfiles(profilesWithCounts);
+                const data = await businessService.searchBusinessDirectory(keyword.trim());
+                setProfiles(data);
+                setHasMore(false);
+                setSuggestions([]);
             } else {
                 await fetchProfiles();
             }
@@ -155,16 +150,37 @@ const BusinessHubPage: React.FC = () => {
         }
     };
 
-    const myBusinesses = profiles.filter(p => p.userId === user?.id);
+    const handleKeywordChange = async (value: string) => {
+        setKeyword(value);
+        const suggestion = suggestions.find(s => s.businessName === value);
+        if (suggestion) {
+            navigate(`/business/${suggestion.id}`);
+            return;
+        }
+        if (value.trim().length < 2) {
+            setSuggestions([]);
+            return;
+        }
+        try {
+            setSuggestions(await businessService.autocompleteBusinesses(value.trim()));
+        } catch (error) {
+            console.error('Failed to fetch suggestions', error);
+        }
+    };
+
+    const myBusinesses: BusinessDirectoryEntry[] = myProfile
+        ? [{ ...myProfile, logoUrl: myProfile.logo }]
+        : [];
     const otherBusinesses = profiles.filter(p => p.userId !== user?.id);
 
-    const renderProfileCard = (profile: BusinessProfileResponse, isOwn: boolean) => (
+    const renderProfileCard = (profile: BusinessDirectoryEntry, isOwn: boolean) => (
         <Col key={profile.id}>
             <Card className="h-100 border shadow-sm hover-shadow transition-all">
                 <Card.Body className="p-4">
                     <div className="d-flex align-items-start mb-3">
                         <Image
-                            src={profile.logo || `https://api.dicebear.com/7.x/initials/svg?seed=${profile.businessName}`}
+                            src={resolveImageUrl(profile.logoUrl) || `https://api.dicebear.com/7.x/initials/svg?seed=${profile.businessName}`}
+                            loading="lazy"
                             roundedCircle
                             width={64}
                             height={64}
@@ -258,7 +274,7 @@ const BusinessHubPage: React.FC = () => {
                     />
                 </Tabs>
 
-                {!userHasProfile && (
+                {!myProfile && (
                     <Button
                         variant="outline-dark"
                         size="sm"
@@ -273,6 +289,26 @@ const BusinessHubPage: React.FC = () => {
 
             {activeTab === 'profiles' && (
                 <>
+                    <Form onSubmit={handleSearch} className="mb-4">
+                        <InputGroup>
+                            <InputGroup.Text className="bg-light border-end-0">
+                                <Search size={18} className="text-muted" />
+                            </InputGroup.Text>
+                            <Form.Control
+                                type="search"
+                                placeholder="Search businesses"
+                                className="bg-light border-start-0"
+                                list="business-suggestions"
+                                value={keyword}
+                                onChange={(e) => handleKeywordChange(e.target.value)}
+                            />
+                            <datalist id="business-suggestions">
+                                {suggestions.map(s => (
+                                    <option key={s.id} value={s.businessName}>{s.category}</option>
+                                ))}
+                            </datalist>
+                        </InputGroup>
+                    </Form>
                     {isLoading ? (
                         <div className="text-center py-5">
                             <Spinner animation="border" variant="danger" />
@@ -289,7 +325,19 @@ const BusinessHubPage: React.FC = () => {
                             )}
 
                             <div>
-                                <h5 className="fw-bold mb-3">Other Businesses</h5>
+                                <div className="d-flex justify-content-between align-items-center mb-3">
+                                    <h5 className="fw-bold mb-0">Other Businesses</h5>
+                                    <Form.Select
+                                        size="sm"
+                                        style={{ width: 'auto' }}
+                                        value={sort}
+                                        onChange={(e) => setSort(e.target.value as BusinessDirectorySort)}
+                                    >
+                                        <option value="followers">Most followed</option>
+                                        <option value="name">Name</option>
+                                        <option value="category">Category</option>
+                                    </Form.Select>
+                                </div>
                                 <Row xs={1} md={2} lg={3} className="g-4">
                                     {otherBusinesses.map(p => renderProfileCard(p, false))}
                                 </Row>
@@ -298,6 +346,18 @@ const BusinessHubPage: React.FC = () => {
                                         <p className="text-muted">No other business profiles found.</p>
                                     </div>
                                 )}
+                                {hasMore && (
+                                    <div className="text-center mt-4">
+                                        <Button
+                                            variant="light"
+                                            className="rounded-pill fw-bold"
+                                            disabled={isLoadingMore}
+                                            onClick={() => fetchProfiles(page + 1)}
+                                        >
+                                            {isLoadingMore ? <Spinner animation="border" size="sm" /> : 'Load more'}
+                                        </Button>
+                                    </div>
+                                )}
                             </div>
                         </>
                     )}
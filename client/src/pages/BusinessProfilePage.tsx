@@ -36,14 +36,13 @@ const BusinessProfilePage: React.FC = () => {
 
 
             if (user?.id && user.id !== profileData.userId) {
-                const following = await collaborationService.getFollowing(user.id);
-                setIsFollowing(following.some(f => f.followingId === profileData.userId));
+                setIsFollowing(await collaborationService.isFollowing(user.id, profileData.userId));
             }
 
 
             try {
-                const followers = await collaborationService.getFollowers(profileData.userId);
-                setProfile(prev => prev ? { ...prev, followersCount: followers.length } : null);
+                const counts = await collaborationService.getConnectionCounts(profileData.userId);
+                setProfile(prev => prev ? { ...prev, followersCount: counts.followersCount } : null);
             } catch (e) {
                 console.error("Failed to fetch followers count", e);
             }
@@ -70,8 +69,8 @@ const BusinessProfilePage: React.FC = () => {
             setIsFollowing(!isFollowing);
 
 
-            const followers = await collaborationService.getFollowers(profile.userId);
-            setProfile(prev => prev ? { ...prev, followersCount: followers.length } : null);
+            const counts = await collaborationService.getConnectionCounts(profile.userId);
+            setProfile(prev => prev ? { ...prev, followersCount: counts.followersCount } : null);
 
         } catch (error) {
             console.error('Failed to toggle follow', error);
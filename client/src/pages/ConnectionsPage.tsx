@@ -47,48 +47,26 @@ const ConnectionsPage: React.FC = () => {
       setIsLoadingDetails(true);
       try {
         
-        if (followers.length > 0) {
-          const enrichedFollowersData = await Promise.all(
-            followers.map(async (conn) => {
-              try {
-                const profile = await authService.getProfile(conn.followerId);
-                return {
-                  ...profile,
-                  connectionId: conn.id,
-                  isFollowing: myFollowingIds[conn.followerId] || false
-                };
-              } catch (e) {
-                console.error(`Failed to fetch profile for follower ${conn.followerId}`, e);
-                return null;
-              }
-            })
-          );
-          setEnrichedFollowers(enrichedFollowersData.filter((u): u is ConnectionUI => u !== null));
-        } else {
-          setEnrichedFollowers([]);
-        }
+        const ids = Array.from(new Set([
+          ...followers.map(conn => conn.followerId),
+          ...following.map(conn => conn.followingId),
+        ]));
+        const profiles = ids.length > 0 ? await authService.getUsersByIds(ids) : [];
+        const byId = new Map(profiles.map(p => [p.id, p]));
 
-        
-        if (following.length > 0) {
-          const enrichedFollowingData = await Promise.all(
-            following.map(async (conn) => {
-              try {
-                const profile = await authService.getProfile(conn.followingId);
-                return {
-                  ...profile,
-                  connectionId: conn.id,
-                  isFollowing: myFollowingIds[conn.followingId] || false
-                };
-              } catch (e) {
-                console.error(`Failed to fetch profile for following ${conn.followingId}`, e);
-                return null;
-              }
-            })
-          );
-          setEnrichedFollowing(enrichedFollowingData.filter((u): u is ConnectionUI => u !== null));
-        } else {
-          setEnrichedFollowing([]);
-        }
+        const enrich = (conn: ConnectionResponse, otherId: number): ConnectionUI | null => {
+          const profile = byId.get(otherId);
+          return profile
+            ? { ...profile, connectionId: conn.id, isFollowing: myFollowingIds[otherId] || false }
+            : null;
+        };
+
+        setEnrichedFollowers(
+          followers.map(conn => enrich(conn, conn.followerId)).filter((u): u is ConnectionUI => u !== null)
+        );
+        setEnrichedFollowing(
+          following.map(conn => enrich(conn, conn.followingId)).filter((u): u is ConnectionUI => u !== null)
+        );
 
       } catch (error) {
         console.error('Error fetching connection details:', error);
@@ -7,6 +7,7 @@ import { useBoards } from '../contexts/BoardContext';
 import { useAuth } from '../contexts/AuthContext';
 import { PinRequest, PinResponse } from '../types';
 import CreateBoardModal from '../components/CreateBoardModal';
+import { resolveImageUrl } from '../utils/api';
 
 const CreatePinPage: React.FC = () => {
   const navigate = useNavigate();
@@ -27,7 +28,7 @@ const CreatePinPage: React.FC = () => {
     imageUrl: editPin?.imageUrl || '',
   });
 
-  const [imagePreview, setImagePreview] = useState<string | null>(editPin?.imageUrl || null);
+  const [imagePreview, setImagePreview] = useState<string | null>(editPin?.imageUrl ? resolveImageUrl(editPin.imageUrl) : null);
   const [keywordInput, setKeywordInput] = useState('');
   const [showPreview, setShowPreview] = useState(false);
   const [showDraftConfirm, setShowDraftConfirm] = useState(false);
@@ -1,5 +1,5 @@
 
-import React, { useState, useEffect, useMemo } from 'react';
+import React, { useState, useEffect, useMemo, useCallback } from 'react';
 import { Container, Nav, Row, Col, Card, Image, Button, Dropdown, Spinner, Alert, Form, InputGroup } from 'react-bootstrap';
 import { useParams, useNavigate, useSearchParams } from 'react-router-dom';
 import { UserX, Flag, Search, MoreHorizontal } from 'lucide-react';
@@ -7,7 +7,7 @@ import { useConnections } from '../contexts/ConnectionContext';
 import { useAuth } from '../contexts/AuthContext';
 import { authService } from '../services/authService';
 import { collaborationService } from '../services/collaborationService';
-import { UserResponse } from '../types';
+import { ConnectionCountsResponse, ConnectionResponse, UserResponse } from '../types';
 import UserDetailsModal from '../components/UserDetailsModal';
 
 interface ConnectionUI extends UserResponse {
@@ -20,13 +20,18 @@ const FollowersPage: React.FC = () => {
   const [searchParams, setSearchParams] = useSearchParams();
   const navigate = useNavigate();
   const { user: currentUser } = useAuth();
-  const { followers, following, fetchFollowers, fetchFollowing, followUser, unfollowUser, isLoading: isConnLoading, error: connError } = useConnections();
+  const { followUser, unfollowUser, error: connError } = useConnections();
 
   const initialTab = searchParams.get('tab') === 'following' ? 'following' : 'followers';
   const [activeTab, setActiveTab] = useState(initialTab);
 
   const [enrichedFollowers, setEnrichedFollowers] = useState<ConnectionUI[]>([]);
   const [enrichedFollowing, setEnrichedFollowing] = useState<ConnectionUI[]>([]);
+  const [followersCursor, setFollowersCursor] = useState<string | null>(null);
+  const [followingCursor, setFollowingCursor] = useState<string | null>(null);
+  const [hasMoreFollowers, setHasMoreFollowers] = useState(false);
+  const [hasMoreFollowing, setHasMoreFollowing] = useState(false);
+  const [counts, setCounts] = useState<ConnectionCountsResponse | null>(null);
   const [isLoadingDetails, setIsLoadingDetails] = useState(false);
   const [searchQuery, setSearchQuery] = useState('');
   const [selectedUser, setSelectedUser] = useState<UserResponse | null>(null);
@@ -48,15 +53,72 @@ const FollowersPage: React.FC = () => {
     setSearchParams({ tab });
   };
 
-  useEffect(() => {
-    if (userId) {
-      const id = parseInt(userId);
-      fetchFollowers(id);
-      fetchFollowing(id);
+  const enrichConnections = async (
+    connections: ConnectionResponse[],
+    pickUserId: (conn: ConnectionResponse) => number
+  ): Promise<ConnectionUI[]> => {
+    if (connections.length === 0) return [];
+    const profiles = await authService.getUsersByIds(connections.map(pickUserId));
+    const byId = new Map(profiles.map(p => [p.id, p]));
+    const enriched: ConnectionUI[] = [];
+    connections.forEach(conn => {
+      const profile = byId.get(pickUserId(conn));
+      if (profile) {
+        enriched.push({ ...profile, connectionId: conn.id, isFollowing: false });
+      }
+    });
+    return enriched;
+  };
+
+  const loadCounts = useCallback(async () => {
+    if (!userId) return;
+    try {
+      setCounts(await collaborationService.getConnectionCounts(parseInt(userId)));
+    } catch (e) {
+      console.error('Failed to fetch connection counts', e);
     }
-  }, [userId, fetchFollowers, fetchFollowing]);
+  }, [userId]);
+
+  const loadFollowersPage = useCallback(async (cursor?: string | null) => {
+    if (!userId) return;
+    setIsLoadingDetails(true);
+    try {
+      const page = await collaborationService.getFollowersPage(parseInt(userId), cursor);
+      const users = await enrichConnections(page.connections, conn => conn.followerId);
+      setEnrichedFollowers(prev => (cursor ? [...prev, ...users] : users));
+      setFollowersCursor(page.nextCursor);
+      setHasMoreFollowers(page.hasMore);
+    } catch (error) {
+      console.error('Error fetching followers:', error);
+    } finally {
+      setIsLoadingDetails(false);
+    }
+  }, [userId]);
+
+  const loadFollowingPage = useCallback(async (cursor?: string | null) => {
+    if (!userId) return;
+    setIsLoadingDetails(true);
+    try {
+      const page = await collaborationService.getFollowingPage(parseInt(userId), cursor);
+      const users = await enrichConnections(page.connections, conn => conn.followingId);
+      setEnrichedFollowing(prev => (cursor ? [...prev, ...users] : users));
+      setFollowingCursor(page.nextCursor);
+      setHasMoreFollowing(page.hasMore);
+    } catch (error) {
+      console.error('Error fetching following:', error);
+    } finally {
+      setIsLoadingDetails(false);
+    }
+  }, [userId]);
+
+  useEffect(() => {
+    setEnrichedFollowers([]);
+    setEnrichedFollowing([]);
+    loadCounts();
+    loadFollowersPage();
+    loadFollowingPage();
+  }, [loadCounts, loadFollowersPage, loadFollowingPage]);
 
-  
   useEffect(() => {
     const fetchMyFollowing = async () => {
       if (currentUser?.id) {
@@ -75,65 +137,6 @@ const FollowersPage: React.FC = () => {
     fetchMyFollowing();
   }, [currentUser?.id]);
 
-  useEffect(() => {
-    const fetchDetails = async () => {
-      setIsLoadingDetails(true);
-      try {
-        
-        if (followers.length > 0) {
-          const enrichedFollowersData = await Promise.all(
-            followers.map(async (conn) => {
-              try {
-                const profile = await authService.getProfile(conn.followerId);
-                return {
-                  ...profile,
-                  connectionId: conn.id,
-                  isFollowing: myFollowingIds[conn.followerId] || false
-                };
-              } catch (e) {
-                return null;
-              }
-            })
-          );
-          setEnrichedFollowers(enrichedFollowersData.filter((u): u is ConnectionUI => u !== null));
-        } else {
-          setEnrichedFollowers([]);
-        }
-
-        
-        if (following.length > 0) {
-          const enrichedFollowingData = await Promise.all(
-            following.map(async (conn) => {
-              try {
-                const profile = await authService.getProfile(conn.followingId);
-                return {
-                  ...profile,
-                  connectionId: conn.id,
-                  isFollowing: myFollowingIds[conn.followingId] || false
-                };
-              } catch (e) {
-                return null;
-              }
-            })
-          );
-          setEnrichedFollowing(enrichedFollowingData.filter((u): u is ConnectionUI => u !== null));
-        } else {
-          setEnrichedFollowing([]);
-        }
-
-      } catch (error) {
-        console.error('Error fetching connection details:', error);
-      } finally {
-        setIsLoadingDetails(false);
-      }
-    };
-
-    if (!isConnLoading) {
-      fetchDetails();
-    }
-  }, [followers, following, isConnLoading]);
-
-  
   useEffect(() => {
     setEnrichedFollowers(prev =>
       prev.map(user => ({
@@ -169,7 +172,8 @@ const FollowersPage: React.FC = () => {
 
       
       if (currentUser?.id === parseInt(userId || '0')) {
-        fetchFollowing(parseInt(userId!));
+        loadCounts();
+        loadFollowingPage();
       }
     } catch (error: any) {
       
@@ -180,7 +184,7 @@ const FollowersPage: React.FC = () => {
         }));
         
         if (currentUser?.id === parseInt(userId || '0')) {
-          fetchFollowing(parseInt(userId!));
+          loadFollowingPage();
         }
       } else {
         console.error('Failed to update connection:', error);
@@ -216,7 +220,16 @@ const FollowersPage: React.FC = () => {
     );
   }, [activeTab, enrichedFollowers, enrichedFollowing, searchQuery]);
 
-  const isLoading = isConnLoading || isLoadingDetails;
+  const isLoading = isLoadingDetails;
+  const hasMore = activeTab === 'followers' ? hasMoreFollowers : hasMoreFollowing;
+
+  const handleLoadMore = () => {
+    if (activeTab === 'followers') {
+      loadFollowersPage(followersCursor);
+    } else {
+      loadFollowingPage(followingCursor);
+    }
+  };
 
   return (
     <Container className="py-4" style={{ maxWidth: '800px' }}>
@@ -253,7 +266,7 @@ const FollowersPage: React.FC = () => {
               fontWeight: '600'
             }}
           >
-            Followers ({enrichedFollowers.length})
+            Followers ({counts?.followersCount ?? enrichedFollowers.length})
           </Nav.Link>
         </Nav.Item>
         <Nav.Item>
@@ -267,7 +280,7 @@ const FollowersPage: React.FC = () => {
               fontWeight: '600'
             }}
           >
-            Following ({enrichedFollowing.length})
+            Following ({counts?.followingCount ?? enrichedFollowing.length})
           </Nav.Link>
         </Nav.Item>
       </Nav>
@@ -351,6 +364,18 @@ const FollowersPage: React.FC = () => {
                 </p>
               </div>
             )}
+            {hasMore && !searchQuery && (
+              <div className="text-center py-3">
+                <Button
+                  variant="light"
+                  className="rounded-pill px-4 border"
+                  onClick={handleLoadMore}
+                  disabled={isLoadingDetails}
+                >
+                  {isLoadingDetails ? <Spinner animation="border" size="sm" /> : 'Load more'}
+                </Button>
+              </div>
+            )}
           </Col>
         </Row>
       )}
@@ -1,15 +1,30 @@
-import React, { useEffect } from 'react';
+import React, { useEffect, useRef } from 'react';
 import { Container, Spinner, Alert } from 'react-bootstrap';
 import PinCard from '../components/PinCard';
 import { usePins } from '../contexts/PinContext';
 
 const HomePage: React.FC = () => {
-  const { pins, isLoading, error, fetchPublicPins } = usePins();
+  const { pins, isLoading, error, hasMorePublicPins, fetchPublicPins, loadMorePublicPins } = usePins();
+  const sentinelRef = useRef<HTMLDivElement | null>(null);
 
   useEffect(() => {
     fetchPublicPins();
   }, [fetchPublicPins]);
 
+  useEffect(() => {
+    const sentinel = sentinelRef.current;
+    if (!sentinel || !hasMorePublicPins) {
+      return;
+    }
+    const observer = new IntersectionObserver((entries) => {
+      if (entries[0].isIntersecting) {
+        loadMorePublicPins();
+      }
+    }, { rootMargin: '600px' });
+    observer.observe(sentinel);
+    return () => observer.disconnect();
+  }, [hasMorePublicPins, loadMorePublicPins]);
+
   if (isLoading && pins.length === 0) {
     return (
       <div className="loading-container">
@@ -42,6 +57,12 @@ const HomePage: React.FC = () => {
           ))}
         </div>
       )}
+      <div ref={sentinelRef} />
+      {isLoading && pins.length > 0 && (
+        <div className="text-center my-3">
+          <Spinner animation="border" variant="danger" size="sm" />
+        </div>
+      )}
     </Container>
   );
 };
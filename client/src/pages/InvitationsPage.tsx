@@ -31,17 +31,20 @@ const InvitationsPage: React.FC = () => {
         const pendingInvitations = data.filter(inv => inv.status === 'PENDING');
 
         
-        const enriched = await Promise.all(
-          pendingInvitations.map(async (inv) => {
-            try {
-              const inviter = await authService.getProfile(inv.inviterId);
-              return { ...inv, inviter };
-            } catch (e) {
-              console.error(`Failed to fetch inviter ${inv.inviterId}`, e);
-              return inv;
-            }
-          })
-        );
+        const inviterIds = Array.from(new Set(pendingInvitations.map(inv => inv.inviterId)));
+        let inviters = new Map<number, UserResponse>();
+        if (inviterIds.length > 0) {
+          try {
+            const profiles = await authService.getUsersByIds(inviterIds);
+            inviters = new Map(profiles.map(p => [p.id, p]));
+          } catch (e) {
+            console.error('Failed to fetch inviters', e);
+          }
+        }
+        const enriched = pendingInvitations.map(inv => {
+          const inviter = inviters.get(inv.inviterId);
+          return inviter ? { ...inv, inviter } : inv;
+        });
         setInvitations(enriched);
       } catch (err) {
         console.error('Failed to fetch invitations', err);
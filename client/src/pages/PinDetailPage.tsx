@@ -8,6 +8,7 @@ import { useBoards } from '../contexts/BoardContext';
 import { authService } from '../services/authService';
 import { UserResponse } from '../types';
 import { contentService } from '../services/contentService';
+import { resolveImageUrl } from '../utils/api';
 import SaveToBoardModal from '../components/SaveToBoardModal';
 
 interface CommentWithUser {
@@ -37,41 +38,29 @@ const PinDetailPage: React.FC = () => {
   const [comment, setComment] = useState('');
   const [comments, setComments] = useState<CommentWithUser[]>([]);
   const [isCommentsLoading, setIsCommentsLoading] = useState(false);
+  const [commentsCursor, setCommentsCursor] = useState<string | null>(null);
+  const [hasMoreComments, setHasMoreComments] = useState(false);
+  const [postedComments, setPostedComments] = useState(0);
 
-  const fetchComments = async () => {
+  const fetchComments = async (cursor: string | null = null) => {
     if (!pinId) return;
     setIsCommentsLoading(true);
     try {
-      const fetchedComments = await contentService.getComments(parseInt(pinId));
+      const page = await contentService.getCommentFeed(parseInt(pinId), cursor);
+      const commentsWithUserData = page.comments.map((c) => ({
+        id: c.id,
+        username: c.author?.displayName || c.author?.username || 'Unknown User',
+        avatar: c.author?.avatarUrl
+          ? resolveImageUrl(c.author.avatarUrl)
+          : `https://api.dicebear.com/7.x/avataaars/svg?seed=${c.author?.username || c.userId}`,
+        text: c.text,
+        timestamp: new Date(c.createdAt).toLocaleDateString(),
+        userId: c.userId
+      }));
 
-      const commentsWithUserData = await Promise.all(
-        fetchedComments.map(async (c: any) => {
-          try {
-            const userProfile = await authService.getProfile(c.userId);
-            return {
-              id: c.id,
-              username: userProfile.firstName ? `${userProfile.firstName} ${userProfile.lastName}` : userProfile.username,
-              avatar: userProfile.avatar || `/public/default-avatar.svg`,
-              text: c.text,
-              timestamp: new Date(c.createdAt).toLocaleDateString(), 
-              userId: c.userId
-            };
-          } catch (err) {
-            console.error(`Failed to fetch user for comment ${c.id}`, err);
-            return {
-              id: c.id,
-              username: 'Unknown User',
-              avatar: `https://api.dicebear.com/7.x/avataaars/svg?seed=${c.userId}`,
-              text: c.text,
-              timestamp: new Date(c.createdAt).toLocaleDateString(),
-              userId: c.userId
-            };
-          }
-        })
-      );
-
-      
-      setComments(commentsWithUserData.reverse());
+      setComments(prev => cursor ? [...prev, ...commentsWithUserData] : commentsWithUserData);
+      setCommentsCursor(page.nextCursor || null);
+      setHasMoreComments(page.hasMore);
     } catch (err) {
       console.error('Failed to fetch comments:', err);
     } finally {
@@ -82,6 +71,7 @@ const PinDetailPage: React.FC = () => {
   useEffect(() => {
     if (pinId) {
       fetchPinById(parseInt(pinId));
+      setPostedComments(0);
       fetchComments();
     }
   }, [pinId, fetchPinById]);
@@ -130,7 +120,8 @@ const PinDetailPage: React.FC = () => {
           pinId: parseInt(pinId)
         });
         setComment('');
-        fetchComments(); 
+        setPostedComments(count => count + 1);
+        fetchComments();
       } catch (err) {
         console.error('Failed to add comment:', err);
         alert('Failed to add comment');
@@ -160,7 +151,7 @@ const PinDetailPage: React.FC = () => {
         <Row>
           <Col lg={6} className="mb-4">
             <img
-              src={pin.imageUrl}
+              src={resolveImageUrl(pin.imageUrl)}
               alt={pin.title}
               style={{
                 width: '100%',
@@ -264,7 +255,7 @@ const PinDetailPage: React.FC = () => {
             <hr />
 
             <div className="mb-4">
-              <h5 className="mb-3">{comments.length} Comments</h5>
+              <h5 className="mb-3">{Math.max((pin.commentsCount || 0) + postedComments, comments.length)} Comments</h5>
 
               <Form onSubmit={handleAddComment} className="mb-4">
                 <div className="d-flex gap-2">
@@ -305,6 +296,17 @@ const PinDetailPage: React.FC = () => {
                   </div>
                 </div>
               ))}
+
+              {hasMoreComments && (
+                <Button
+                  variant="light"
+                  className="rounded-pill"
+                  disabled={isCommentsLoading}
+                  onClick={() => fetchComments(commentsCursor)}
+                >
+                  {isCommentsLoading ? 'Loading...' : 'Show more comments'}
+                </Button>
+              )}
             </div>
           </Col>
         </Row>
@@ -2,13 +2,11 @@ import React, { useState, useEffect, useMemo } from 'react';
 import { Container, Row, Col, Button, Nav, Image, Modal, Form, Spinner, InputGroup } from 'react-bootstrap';
 import { Settings, Share2, ExternalLink, Edit2, Search, Plus } from 'lucide-react';
 import { useAuth } from '../contexts/AuthContext';
-import { usePins } from '../contexts/PinContext';
-import { useBoards } from '../contexts/BoardContext';
 import { useConnections } from '../contexts/ConnectionContext';
 import { useParams, useNavigate } from 'react-router-dom';
-import { authService } from '../services/authService';
-import { collaborationService } from '../services/collaborationService';
-import { UserResponse } from '../types';
+import { profilePageService } from '../services/profilePageService';
+import { BoardResponse, PinResponse, UserResponse } from '../types';
+import { resolveImageUrl } from '../utils/api';
 import BoardCard from '../components/BoardCard';
 import PinCard from '../components/PinCard';
 
@@ -16,11 +14,13 @@ const ProfilePage: React.FC = () => {
   const { userId } = useParams();
   const navigate = useNavigate();
   const { user: currentUser, updateProfile } = useAuth();
-  const { pins, drafts, fetchUserPins, fetchUserDrafts, isLoading: pinsLoading } = usePins();
-  const { boards, fetchUserBoards, isLoading: boardsLoading } = useBoards();
-  const { following, followUser, unfollowUser, fetchFollowing } = useConnections();
+  const { followUser, unfollowUser, fetchFollowing } = useConnections();
 
   const [profileUser, setProfileUser] = useState<UserResponse | null>(null);
+  const [pins, setPins] = useState<PinResponse[]>([]);
+  const [boards, setBoards] = useState<BoardResponse[]>([]);
+  const [drafts, setDrafts] = useState<PinResponse[]>([]);
+  const [isFollowing, setIsFollowing] = useState(false);
   const [loading, setLoading] = useState(true);
   const [activeTab, setActiveTab] = useState('created');
   const [showEditModal, setShowEditModal] = useState(false);
@@ -39,7 +39,6 @@ const ProfilePage: React.FC = () => {
 
   const parsedUserId = userId ? parseInt(userId) : currentUser?.id;
   const isOwnProfile = currentUser?.id === parsedUserId;
-  const isFollowing = following.some(f => f.followingId === parsedUserId);
 
   
   const filteredPins = useMemo(() => {
@@ -81,7 +80,6 @@ const ProfilePage: React.FC = () => {
 
       setLoading(true);
       try {
-        
         if (isOwnProfile && currentUser) {
           setProfileUser(currentUser);
           setEditForm({
@@ -90,32 +88,21 @@ const ProfilePage: React.FC = () => {
             bio: currentUser.bio || '',
             avatar: currentUser.avatar || '',
           });
-        } else {
-          const data = await authService.getProfile(parsedUserId);
-          setProfileUser(data);
         }
 
-        
-        await Promise.all([
-          fetchUserPins(parsedUserId),
-          fetchUserBoards(parsedUserId),
-          currentUser && fetchFollowing(currentUser.id)
-        ]);
-
-        if (isOwnProfile) {
-          fetchUserDrafts();
+        const page = await profilePageService.getProfilePage(parsedUserId);
+        if (!isOwnProfile && page.user) {
+          setProfileUser(page.user);
         }
-
-        
-        try {
-          const followersData = await collaborationService.getFollowers(parsedUserId);
-          setFollowersCount(followersData.length);
-          const followingData = await collaborationService.getFollowing(parsedUserId);
-          setFollowingCount(followingData.length);
-        } catch (e) {
-          console.error("Failed to fetch connection counts", e);
+        setPins(page.pins || []);
+        setBoards(page.boards || []);
+        setDrafts(page.drafts || []);
+        setFollowersCount(page.followersCount || 0);
+        setFollowingCount(page.followingCount || 0);
+        setIsFollowing(!!page.viewerFollows);
+        if (page.unavailable) {
+          console.warn('Profile page sections unavailable:', page.unavailable);
         }
-
       } catch (error) {
         console.error('Failed to load profile data:', error);
       } finally {
@@ -124,7 +111,7 @@ const ProfilePage: React.FC = () => {
     };
 
     loadProfileData();
-  }, [parsedUserId, isOwnProfile, currentUser, fetchUserPins, fetchUserBoards, fetchFollowing, fetchUserDrafts]);
+  }, [parsedUserId, isOwnProfile, currentUser]);
 
   const handleSaveProfile = () => {
     updateProfile(editForm);
@@ -140,9 +127,11 @@ const ProfilePage: React.FC = () => {
     try {
       if (isFollowing) {
         await unfollowUser(parsedUserId);
+        setIsFollowing(false);
         setFollowersCount(prev => Math.max(0, prev - 1));
       } else {
         await followUser(parsedUserId);
+        setIsFollowing(true);
         setFollowersCount(prev => prev + 1);
       }
       
@@ -330,9 +319,7 @@ const ProfilePage: React.FC = () => {
         { }
         {activeTab === 'created' && (
           <div className="mb-4">
-            {pinsLoading ? (
-              <Spinner animation="border" size="sm" />
-            ) : filteredPins.length > 0 ? (
+            {filteredPins.length > 0 ? (
               <div className="masonry-grid">
                 {filteredPins.map((pin) => (
                   <PinCard key={pin.id} pin={pin} />
@@ -347,9 +334,7 @@ const ProfilePage: React.FC = () => {
         { }
         {activeTab === 'saved' && (
           <div className="mb-4">
-            {boardsLoading ? (
-              <Spinner animation="border" size="sm" />
-            ) : filteredBoards.length > 0 ? (
+            {filteredBoards.length > 0 ? (
               <Row>
                 {filteredBoards.map((board) => (
                   <Col key={board.id} xs={12} sm={6} md={3} className="mb-4">
@@ -367,9 +352,7 @@ const ProfilePage: React.FC = () => {
         {activeTab === 'drafts' && isOwnProfile && (
           <div className="mb-4">
             <h5 className="mb-3">Your Drafts</h5>
-            {pinsLoading ? (
-              <Spinner animation="border" size="sm" />
-            ) : drafts.length > 0 ? (
+            {drafts.length > 0 ? (
               <Row>
                 {drafts.map((draft) => (
                   <Col key={draft.id} xs={12} sm={6} md={4} lg={3} className="mb-4">
@@ -379,7 +362,7 @@ const ProfilePage: React.FC = () => {
                       onClick={() => navigate('/create-pin', { state: { editPin: draft } })}
                     >
                       <Image
-                        src={draft.imageUrl}
+                        src={resolveImageUrl(draft.imageUrl)}
                         fluid
                         style={{ borderRadius: '16px', width: '100%', height: 'auto', objectFit: 'cover' }}
                       />
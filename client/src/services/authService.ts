@@ -5,10 +5,14 @@ import {
   RegisterRequest,
   PasswordResetRequest,
   UserResponse,
+  UserSummaryResponse,
   OtpRequest,
   OtpVerificationRequest
 } from '../types';
 
+// Matches the per-request id limit of the auth service batch endpoints.
+const USER_BATCH_LIMIT = 1000;
+
 export const authService = {
   register: async (data: RegisterRequest): Promise<AuthResponse> => {
     const response = await api.post<AuthResponse>('/auth/register', data);
@@ -51,7 +55,25 @@ export const authService = {
   },
 
   getUsersByIds: async (userIds: number[]): Promise<UserResponse[]> => {
-    const response = await api.post<UserResponse[]>('/auth/users/batch', userIds);
+    const chunks: number[][] = [];
+    for (let i = 0; i < userIds.length; i += USER_BATCH_LIMIT) {
+      chunks.push(userIds.slice(i, i + USER_BATCH_LIMIT));
+    }
+    const responses = await Promise.all(
+      chunks.map(chunk => api.post<UserResponse[]>('/auth/users/batch', chunk))
+    );
+    return responses.flatMap(response => response.data);
+  },
+
+  autocompleteUsers: async (prefix: string, limit = 10): Promise<UserSummaryResponse[]> => {
+    const response = await api.get<UserSummaryResponse[]>('/auth/users/autocomplete', {
+      params: { prefix, limit },
+    });
+    return response.data;
+  },
+
+  getUserSummaries: async (userIds: number[]): Promise<UserSummaryResponse[]> => {
+    const response = await api.post<UserSummaryResponse[]>('/auth/users/summaries', userIds.slice(0, USER_BATCH_LIMIT));
     return response.data;
   },
 };
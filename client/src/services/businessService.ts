@@ -1,5 +1,12 @@
 import api from '../utils/api';
-import { BusinessProfileRequest, BusinessProfileResponse } from '../types';
+import {
+  BusinessDirectoryEntry,
+  BusinessDirectoryPageResponse,
+  BusinessDirectorySort,
+  BusinessProfileRequest,
+  BusinessProfileResponse,
+  BusinessSuggestion,
+} from '../types';
 
 export const businessService = {
   async createBusinessProfile(profileData: BusinessProfileRequest): Promise<BusinessProfileResponse> {
@@ -7,8 +14,21 @@ export const businessService = {
     return response.data;
   },
 
-  async getAllBusinessProfiles(): Promise<BusinessProfileResponse[]> {
-    const response = await api.get<BusinessProfileResponse[]>('/business/profiles');
+  async getAllBusinessProfiles(includeCounts = false): Promise<BusinessProfileResponse[]> {
+    const response = await api.get<BusinessProfileResponse[]>('/business/profiles', {
+      params: { includeCounts },
+    });
+    return response.data;
+  },
+
+  async getBusinessDirectory(params: {
+    category?: string;
+    sort?: BusinessDirectorySort;
+    direction?: 'asc' | 'desc';
+    page?: number;
+    size?: number;
+  } = {}): Promise<BusinessDirectoryPageResponse> {
+    const response = await api.get<BusinessDirectoryPageResponse>('/business/profiles/directory', { params });
     return response.data;
   },
 
@@ -22,8 +42,24 @@ export const businessService = {
     return response.data;
   },
 
-  async searchBusinessProfiles(keyword: string): Promise<BusinessProfileResponse[]> {
-    const response = await api.get<BusinessProfileResponse[]>(`/business/profiles/search?keyword=${keyword}`);
+  async searchBusinessProfiles(keyword: string, includeCounts = false): Promise<BusinessProfileResponse[]> {
+    const response = await api.get<BusinessProfileResponse[]>('/business/profiles/search', {
+      params: { keyword, includeCounts },
+    });
+    return response.data;
+  },
+
+  async searchBusinessDirectory(keyword: string, limit = 50): Promise<BusinessDirectoryEntry[]> {
+    const response = await api.get<BusinessDirectoryEntry[]>('/business/profiles/directory/search', {
+      params: { keyword, limit },
+    });
+    return response.data;
+  },
+
+  async autocompleteBusinesses(prefix: string, limit = 8): Promise<BusinessSuggestion[]> {
+    const response = await api.get<BusinessSuggestion[]>('/business/profiles/autocomplete', {
+      params: { prefix, limit },
+    });
     return response.data;
   },
 
@@ -1,5 +1,5 @@
 import api from '../utils/api';
-import { InvitationRequest, InvitationResponse, ConnectionResponse } from '../types';
+import { InvitationRequest, InvitationResponse, ConnectionResponse, ConnectionCountsResponse, ConnectionPageResponse } from '../types';
 
 export const collaborationService = {
   
@@ -37,6 +37,32 @@ export const collaborationService = {
     const response = await api.get<ConnectionResponse[]>(`/collaboration/connections/following/${userId}`);
     return response.data;
   },
+
+  isFollowing: async (followerId: number, followingId: number): Promise<boolean> => {
+    const response = await api.get<boolean>('/collaboration/connections/is-following', {
+      params: { followerId, followingId },
+    });
+    return response.data;
+  },
+
+  getConnectionCounts: async (userId: number): Promise<ConnectionCountsResponse> => {
+    const response = await api.get<ConnectionCountsResponse>(`/collaboration/connections/counts/${userId}`);
+    return response.data;
+  },
+
+  getFollowersPage: async (userId: number, cursor?: string | null, size = 50): Promise<ConnectionPageResponse> => {
+    const response = await api.get<ConnectionPageResponse>(`/collaboration/connections/followers/${userId}/page`, {
+      params: { cursor: cursor || undefined, size },
+    });
+    return response.data;
+  },
+
+  getFollowingPage: async (userId: number, cursor?: string | null, size = 50): Promise<ConnectionPageResponse> => {
+    const response = await api.get<ConnectionPageResponse>(`/collaboration/connections/following/${userId}/page`, {
+      params: { cursor: cursor || undefined, size },
+    });
+    return response.data;
+  },
 };
 
 
@@ -1,5 +1,5 @@
 import api from '../utils/api';
-import { PinRequest, PinResponse, BoardRequest, BoardResponse } from '../types';
+import { PinRequest, PinResponse, PinFeedResponse, BoardRequest, BoardResponse, CommentPageResponse, CommentFeedResponse } from '../types';
 
 export const contentService = {
   
@@ -28,6 +28,13 @@ export const contentService = {
     return response.data;
   },
 
+  getPublicFeed: async (cursor?: string | null, size = 30): Promise<PinFeedResponse> => {
+    const response = await api.get<PinFeedResponse>('/content/pins/public/feed', {
+      params: { cursor: cursor || undefined, size },
+    });
+    return response.data;
+  },
+
   getSponsoredPins: async (): Promise<PinResponse[]> => {
     const response = await api.get<PinResponse[]>('/content/pins/sponsored');
     return response.data;
@@ -92,6 +99,20 @@ export const contentService = {
     return response.data;
   },
 
+  getCommentsPage: async (pinId: number, cursor?: string | null, size = 20): Promise<CommentPageResponse> => {
+    const response = await api.get<CommentPageResponse>(`/content/comments/pin/${pinId}/page`, {
+      params: { cursor: cursor || undefined, size },
+    });
+    return response.data;
+  },
+
+  getCommentFeed: async (pinId: number, cursor?: string | null, size = 20): Promise<CommentFeedResponse> => {
+    const response = await api.get<CommentFeedResponse>(`/content/comments/pin/${pinId}/feed`, {
+      params: { cursor: cursor || undefined, size },
+    });
+    return response.data;
+  },
+
   createComment: async (data: { text: string; pinId: number }): Promise<any> => {
     const response = await api.post<any>('/content/comments', data);
     return response.data;
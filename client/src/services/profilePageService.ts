@@ -0,0 +1,9 @@
+import api from '../utils/api';
+import { ProfilePageResponse } from '../types';
+
+export const profilePageService = {
+  getProfilePage: async (userId: number): Promise<ProfilePageResponse> => {
+    const response = await api.get<ProfilePageResponse>(`/bff/profile/${userId}`);
+    return response.data;
+  },
+};
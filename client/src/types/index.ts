@@ -10,6 +10,15 @@ export interface UserResponse {
     createdAt: string;
 }
 
+export interface UserSummaryResponse {
+    id: number;
+    username: string;
+    firstName: string;
+    lastName: string;
+    displayName: string;
+    avatarUrl?: string | null;
+}
+
 export interface AuthResponse {
     token: string;
     email: string;
@@ -76,6 +85,48 @@ export interface PinResponse {
     sponsorName?: string;
 }
 
+export interface PinFeedResponse {
+    pins: PinResponse[];
+    nextCursor?: string | null;
+    hasMore: boolean;
+}
+
+export interface CommentResponse {
+    id: number;
+    text: string;
+    pinId: number;
+    userId: number;
+    createdAt: string;
+}
+
+export interface CommentPageResponse {
+    comments: CommentResponse[];
+    nextCursor?: string | null;
+    hasMore: boolean;
+}
+
+export interface CommentAuthor {
+    id: number;
+    username: string;
+    displayName: string;
+    avatarUrl?: string | null;
+}
+
+export interface CommentFeedItem {
+    id: number;
+    pinId: number;
+    userId: number;
+    text: string;
+    createdAt: string;
+    author?: CommentAuthor | null;
+}
+
+export interface CommentFeedResponse {
+    comments: CommentFeedItem[];
+    nextCursor?: string | null;
+    hasMore: boolean;
+}
+
 export interface BoardResponse {
     id: number;
     name: string;
@@ -105,6 +156,29 @@ export interface ConnectionResponse {
     createdAt: string;
 }
 
+export interface ConnectionCountsResponse {
+    userId: number;
+    followersCount: number;
+    followingCount: number;
+}
+
+export interface ProfilePageResponse {
+    user?: UserResponse;
+    pins?: PinResponse[];
+    boards?: BoardResponse[];
+    drafts?: PinResponse[];
+    followersCount?: number;
+    followingCount?: number;
+    viewerFollows?: boolean;
+    unavailable?: string[];
+}
+
+export interface ConnectionPageResponse {
+    connections: ConnectionResponse[];
+    nextCursor: string | null;
+    hasMore: boolean;
+}
+
 export interface InvitationResponse {
     id: number;
     boardId?: number;
@@ -131,11 +205,44 @@ export interface BusinessProfileResponse {
     logo?: string;
     category?: string;
     followersCount?: number;
+    followingCount?: number;
     isVerified?: boolean;
     createdAt: string;
     updatedAt: string;
 }
 
+export interface BusinessDirectoryEntry {
+    id: number;
+    userId: number;
+    businessName: string;
+    description?: string;
+    website?: string;
+    category?: string;
+    followersCount?: number;
+    isVerified?: boolean;
+    logoUrl?: string;
+    createdAt: string;
+    updatedAt: string;
+}
+
+export interface BusinessDirectoryPageResponse {
+    profiles: BusinessDirectoryEntry[];
+    page: number;
+    size: number;
+    totalElements: number;
+    totalPages: number;
+    hasMore: boolean;
+}
+
+export interface BusinessSuggestion {
+    id: number;
+    businessName: string;
+    category?: string;
+    logoUrl?: string;
+}
+
+export type BusinessDirectorySort = 'name' | 'category' | 'followers';
+
 export interface BusinessProfileRequest {
     businessName: string;
     description?: string;
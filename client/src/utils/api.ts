@@ -1,6 +1,11 @@
 import axios, { AxiosInstance, InternalAxiosRequestConfig } from 'axios';
 
-const API_BASE_URL = 'http://localhost:8080/api';
+const API_ORIGIN = 'http://localhost:8080';
+const API_BASE_URL = `${API_ORIGIN}/api`;
+
+// Images stored by the content service are returned as gateway-relative paths.
+export const resolveImageUrl = (url?: string | null): string =>
+  url && url.startsWith('/api/') ? `${API_ORIGIN}${url}` : url || '';
 
 const api: AxiosInstance = axios.create({
   baseURL: API_BASE_URL,
@@ -0,0 +1,115 @@
+package com.pinterest.benchmarks;
+
+import com.pinterest.content.dto.BoardResponse;
+import com.pinterest.content.entity.Board;
+import com.pinterest.content.entity.Pin;
+import com.pinterest.content.mapper.BoardMapperImpl;
+import com.pinterest.content.mapper.PinMapperImpl;
+import com.pinterest.content.repository.BoardRepository;
+import com.pinterest.content.repository.IdempotencyKeyRepository;
+import com.pinterest.content.repository.PinRepository;
+import com.pinterest.content.service.BoardService;
+import com.pinterest.content.service.PinCounterBuffer;
+import com.pinterest.content.service.PinResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BoardService.mapToBoardResponse} for a single board and the batched hydration behind
+ * {@code getUserBoards}. Every tenth pin is also linked through the join table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BoardHydrationBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int pinCount;
+
+    @Param({"50", "1000"})
+    private int boardCount;
+
+    private List<Board> boards;
+    private BoardService boardService;
+    private MethodHandle mapToBoardResponse;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        boards = SyntheticData.boards(boardCount);
+        List<Pin> pins = SyntheticData.pins(pinCount, 0.0);
+
+        Map<Long, List<Pin>> pinsByBoard = new HashMap<>();
+        Map<Long, List<Object[]>> joinedByBoard = new HashMap<>();
+        for (Pin pin : pins) {
+            long boardId = 1 + pin.getId() % boardCount;
+            pin.setBoardId(boardId);
+            pinsByBoard.computeIfAbsent(boardId, id -> new ArrayList<>()).add(pin);
+            if (pin.getId() % 10 == 0) {
+                long joinedBoardId = 1 + (pin.getId() / 10) % boardCount;
+                joinedByBoard.computeIfAbsent(joinedBoardId, id -> new ArrayList<>()).add(new Object[]{joinedBoardId, pin});
+            }
+        }
+
+        PinRepository pinRepository = Stubs.of(PinRepository.class)
+                .answer("findByBoardIdIn", args -> collect(pinsByBoard, (Collection<?>) args[0]))
+                .answer("findPinsByJoinedBoardIds", args -> collect(joinedByBoard, (Collection<?>) args[0]))
+                .build();
+        BoardRepository boardRepository = Stubs.of(BoardRepository.class)
+                .answer("findByUserIdOrCollaboratorIdsContaining", args -> boards)
+                .build();
+
+        boardService = new BoardService(boardRepository, pinRepository, Stubs.of(IdempotencyKeyRepository.class).build(),
+                new BoardMapperImpl(), new PinMapperImpl(), new SimpleMeterRegistry(),
+                new PinCounterBuffer(pinRepository, new PinResponseCache(new SimpleMeterRegistry(), 1 << 20, 300),
+                        new TransactionTemplate()));
+
+        mapToBoardResponse = MethodHandles.privateLookupIn(BoardService.class, MethodHandles.lookup())
+                .findVirtual(BoardService.class, "mapToBoardResponse",
+                        MethodType.methodType(BoardResponse.class, Board.class, String.class));
+    }
+
+    @Benchmark
+    public Object mapToBoardResponse() throws Throwable {
+        Board board = boards.get(next++ % boards.size());
+        return mapToBoardResponse.invoke(boardService, board, "benchmark");
+    }
+
+    @Benchmark
+    public List<BoardResponse> getUserBoards() {
+        return boardService.getUserBoards(1L);
+    }
+
+    private static <T> List<T> collect(Map<Long, List<T>> byBoard, Collection<?> boardIds) {
+        List<T> rows = new ArrayList<>();
+        for (Object boardId : boardIds) {
+            rows.addAll(byBoard.getOrDefault((Long) boardId, List.of()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,100 @@
+package com.pinterest.benchmarks;
+
+import com.pinterest.auth.util.JwtUtil;
+import com.pinterest.gateway.filter.JwtAuthenticationFilter;
+import com.pinterest.gateway.security.JwtTokenVerifier;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing and parsing in the auth service, and the gateway filter that validates bearer
+ * tokens. {@code tokenPoolSize} above the verifier cache size measures the cache-miss path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "pinterest-secret-key-for-jwt-token-generation-2024";
+    private static final int VERIFIER_CACHE_SIZE = 10000;
+
+    @Param({"1", "100000"})
+    private int tokenPoolSize;
+
+    private JwtUtil jwtUtil;
+    private MethodHandle extractAllClaims;
+    private GatewayFilter gatewayFilter;
+    private String[] tokens;
+    private int next;
+
+    private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", TimeUnit.DAYS.toMillis(1));
+        extractAllClaims = MethodHandles.privateLookupIn(JwtUtil.class, MethodHandles.lookup())
+                .findVirtual(JwtUtil.class, "extractAllClaims", MethodType.methodType(Claims.class, String.class));
+
+        JwtTokenVerifier verifier = new JwtTokenVerifier(SECRET, VERIFIER_CACHE_SIZE, new SimpleMeterRegistry());
+        gatewayFilter = new JwtAuthenticationFilter(verifier).apply(new JwtAuthenticationFilter.Config());
+
+        tokens = new String[tokenPoolSize];
+        for (int i = 0; i < tokenPoolSize; i++) {
+            tokens[i] = jwtUtil.generateToken("user" + i + "@example.com", (long) i + 1);
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("user@example.com", 1L);
+    }
+
+    @Benchmark
+    public Object extractAllClaims() throws Throwable {
+        return extractAllClaims.invoke(jwtUtil, nextToken());
+    }
+
+    @Benchmark
+    public HttpStatusCode gatewayFilter() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/content/pins/public")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + nextToken()));
+        gatewayFilter.filter(exchange, chain).block();
+        return exchange.getResponse().getStatusCode();
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = (next + 1) % tokens.length;
+        return token;
+    }
+}
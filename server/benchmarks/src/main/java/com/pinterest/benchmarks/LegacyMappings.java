@@ -0,0 +1,74 @@
+package com.pinterest.benchmarks;
+
+import com.pinterest.content.dto.BoardResponse;
+import com.pinterest.content.dto.PinResponse;
+import com.pinterest.content.entity.Board;
+import com.pinterest.content.entity.Pin;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The ModelMapper configuration the services used before the generated mappers, kept as the
+ * reference for equivalence checks and as the baseline in mapping benchmarks.
+ */
+public final class LegacyMappings {
+
+    private LegacyMappings() {
+    }
+
+    /** content-service used STRICT matching and skipped board pins. */
+    public static ModelMapper contentModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        modelMapper.typeMap(Board.class, BoardResponse.class)
+                .addMappings(mapper -> mapper.skip(BoardResponse::setPins));
+        return modelMapper;
+    }
+
+    /** auth, collaboration and business services used the default configuration. */
+    public static ModelMapper defaultModelMapper() {
+        return new ModelMapper();
+    }
+
+    /** PinService.mapToResponse as it was: map, then split the keywords column. */
+    public static PinResponse pinResponse(ModelMapper modelMapper, Pin pin) {
+        PinResponse response = modelMapper.map(pin, PinResponse.class);
+        if (pin.getKeywords() != null && !pin.getKeywords().isEmpty()) {
+            response.setKeywords(List.of(pin.getKeywords().split(",")));
+        } else {
+            response.setKeywords(List.of());
+        }
+        return response;
+    }
+
+    /**
+     * Fails the trial when two objects differ. Entities compare by id only, so their fields are
+     * compared one by one, skipping the ones the services set after mapping.
+     */
+    public static void assertEquivalent(String pair, Object expected, Object actual, Set<String> serviceOwnedFields) {
+        if (expected.getClass() != actual.getClass()) {
+            throw new IllegalStateException(pair + ": mapped to " + actual.getClass() + " instead of " + expected.getClass());
+        }
+        for (Field field : expected.getClass().getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || serviceOwnedFields.contains(field.getName())) {
+                continue;
+            }
+            field.setAccessible(true);
+            try {
+                Object want = field.get(expected);
+                Object got = field.get(actual);
+                if (!Objects.equals(want, got)) {
+                    throw new IllegalStateException(pair + "." + field.getName() + ": expected " + want + " but was " + got);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.pinterest.benchmarks;
+
+import com.pinterest.auth.dto.UserResponse;
+import com.pinterest.auth.entity.User;
+import com.pinterest.auth.mapper.UserMapper;
+import com.pinterest.auth.mapper.UserMapperImpl;
+import com.pinterest.business.dto.BusinessProfileRequest;
+import com.pinterest.business.dto.BusinessProfileResponse;
+import com.pinterest.business.entity.BusinessProfile;
+import com.pinterest.business.mapper.BusinessProfileMapper;
+import com.pinterest.business.mapper.BusinessProfileMapperImpl;
+import com.pinterest.collaboration.dto.ConnectionResponse;
+import com.pinterest.collaboration.dto.InvitationResponse;
+import com.pinterest.collaboration.entity.Connection;
+import com.pinterest.collaboration.entity.Invitation;
+import com.pinterest.collaboration.mapper.ConnectionMapper;
+import com.pinterest.collaboration.mapper.ConnectionMapperImpl;
+import com.pinterest.collaboration.mapper.InvitationMapper;
+import com.pinterest.collaboration.mapper.InvitationMapperImpl;
+import com.pinterest.content.dto.BoardRequest;
+import com.pinterest.content.dto.BoardResponse;
+import com.pinterest.content.dto.PinRequest;
+import com.pinterest.content.entity.Board;
+import com.pinterest.content.entity.Pin;
+import com.pinterest.content.mapper.BoardMapper;
+import com.pinterest.content.mapper.BoardMapperImpl;
+import com.pinterest.content.mapper.PinMapper;
+import com.pinterest.content.mapper.PinMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated mappers against the ModelMapper configuration they replaced, for every entity/DTO
+ * pair. The trial setup first checks that both produce the same output for the whole dataset
+ * and fails the run on the first difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"1000", "100000"})
+    private int count;
+
+    private final ModelMapper contentModelMapper = LegacyMappings.contentModelMapper();
+    private final ModelMapper defaultModelMapper = LegacyMappings.defaultModelMapper();
+
+    private final PinMapper pinMapper = new PinMapperImpl();
+    private final BoardMapper boardMapper = new BoardMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+    private final ConnectionMapper connectionMapper = new ConnectionMapperImpl();
+    private final InvitationMapper invitationMapper = new InvitationMapperImpl();
+    private final BusinessProfileMapper businessProfileMapper = new BusinessProfileMapperImpl();
+
+    private List<Pin> pins;
+    private List<PinRequest> pinRequests;
+    private List<Board> boards;
+    private List<BoardRequest> boardRequests;
+    private List<User> users;
+    private List<Connection> connections;
+    private List<Invitation> invitations;
+    private List<BusinessProfile> profiles;
+    private List<BusinessProfileRequest> profileRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pins = SyntheticData.pins(count, 0.0);
+        pinRequests = SyntheticData.pinRequests(count);
+        boards = SyntheticData.boards(count);
+        boardRequests = SyntheticData.boardRequests(count);
+        users = SyntheticData.users(count);
+        connections = SyntheticData.connections(count);
+        invitations = SyntheticData.invitations(count);
+        profiles = SyntheticData.businessProfiles(count);
+        profileRequests = SyntheticData.businessProfileRequests(count);
+
+        verifyEquivalence();
+    }
+
+    private void verifyEquivalence() {
+        Set<String> none = Set.of();
+        for (Pin pin : pins) {
+            LegacyMappings.assertEquivalent("Pin->PinResponse",
+                    LegacyMappings.pinResponse(contentModelMapper, pin), pinMapper.toResponse(pin), none);
+        }
+        for (PinRequest request : pinRequests) {
+            // PinService joins the keyword list itself after mapping.
+            LegacyMappings.assertEquivalent("PinRequest->Pin",
+                    contentModelMapper.map(request, Pin.class), pinMapper.toEntity(request), Set.of("keywords"));
+        }
+        for (Board board : boards) {
+            LegacyMappings.assertEquivalent("Board->BoardResponse",
+                    contentModelMapper.map(board, BoardResponse.class), boardMapper.toResponse(board), none);
+        }
+        for (BoardRequest request : boardRequests) {
+            LegacyMappings.assertEquivalent("BoardRequest->Board",
+                    contentModelMapper.map(request, Board.class), boardMapper.toEntity(request), none);
+        }
+        for (User user : users) {
+            LegacyMappings.assertEquivalent("User->UserResponse",
+                    defaultModelMapper.map(user, UserResponse.class), userMapper.toResponse(user), none);
+        }
+        for (Connection connection : connections) {
+            LegacyMappings.assertEquivalent("Connection->ConnectionResponse",
+                    defaultModelMapper.map(connection, ConnectionResponse.class), connectionMapper.toResponse(connection), none);
+        }
+        for (Invitation invitation : invitations) {
+            LegacyMappings.assertEquivalent("Invitation->InvitationResponse",
+                    defaultModelMapper.map(invitation, InvitationResponse.class), invitationMapper.toResponse(invitation), none);
+        }
+        for (BusinessProfile profile : profiles) {
+            LegacyMappings.assertEquivalent("BusinessProfile->BusinessProfileResponse",
+                    defaultModelMapper.map(profile, BusinessProfileResponse.class), businessProfileMapper.toResponse(profile), none);
+        }
+        for (BusinessProfileRequest request : profileRequests) {
+            LegacyMappings.assertEquivalent("BusinessProfileRequest->BusinessProfile",
+                    defaultModelMapper.map(request, BusinessProfile.class), businessProfileMapper.toEntity(request), none);
+        }
+    }
+
+    @Benchmark
+    public void pinModelMapper(Blackhole blackhole) {
+        for (Pin pin : pins) {
+            blackhole.consume(LegacyMappings.pinResponse(contentModelMapper, pin));
+        }
+    }
+
+    @Benchmark
+    public void pinGenerated(Blackhole blackhole) {
+        for (Pin pin : pins) {
+            blackhole.consume(pinMapper.toResponse(pin));
+        }
+    }
+
+    @Benchmark
+    public void boardModelMapper(Blackhole blackhole) {
+        for (Board board : boards) {
+            blackhole.consume(contentModelMapper.map(board, BoardResponse.class));
+        }
+    }
+
+    @Benchmark
+    public void boardGenerated(Blackhole blackhole) {
+        for (Board board : boards) {
+            blackhole.consume(boardMapper.toResponse(board));
+        }
+    }
+
+    @Benchmark
+    public void userModelMapper(Blackhole blackhole) {
+        for (User user : users) {
+            blackhole.consume(defaultModelMapper.map(user, UserResponse.class));
+        }
+    }
+
+    @Benchmark
+    public void userGenerated(Blackhole blackhole) {
+        for (User user : users) {
+            blackhole.consume(userMapper.toResponse(user));
+        }
+    }
+
+    @Benchmark
+    public void connectionModelMapper(Blackhole blackhole) {
+        for (Connection connection : connections) {
+            blackhole.consume(defaultModelMapper.map(connection, ConnectionResponse.class));
+        }
+    }
+
+    @Benchmark
+    public void connectionGenerated(Blackhole blackhole) {
+        for (Connection connection : connections) {
+            blackhole.consume(connectionMapper.toResponse(connection));
+        }
+    }
+
+    @Benchmark
+    public void invitationModelMapper(Blackhole blackhole) {
+        for (Invitation invitation : invitations) {
+            blackhole.consume(defaultModelMapper.map(invitation, InvitationResponse.class));
+        }
+    }
+
+    @Benchmark
+    public void invitationGenerated(Blackhole blackhole) {
+        for (Invitation invitation : invitations) {
+            blackhole.consume(invitationMapper.toResponse(invitation));
+        }
+    }
+
+    @Benchmark
+    public void businessProfileModelMapper(Blackhole blackhole) {
+        for (BusinessProfile profile : profiles) {
+            blackhole.consume(defaultModelMapper.map(profile, BusinessProfileResponse.class));
+        }
+    }
+
+    @Benchmark
+    public void businessProfileGenerated(Blackhole blackhole) {
+        for (BusinessProfile profile : profiles) {
+            blackhole.consume(businessProfileMapper.toResponse(profile));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.pinterest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pinterest.content.dto.PinResponse;
+import com.pinterest.content.entity.Pin;
+import com.pinterest.content.mapper.PinMapperImpl;
+import com.pinterest.content.repository.PinRepository;
+import com.pinterest.content.service.ImageStorageService;
+import com.pinterest.content.service.PinResponseCache;
+import com.pinterest.content.service.PinSearchIndex;
+import com.pinterest.content.service.PinService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PinService.deduplicatePins} and {@code mapToResponse}, with the ModelMapper mapping it
+ * replaced and a hand-written mapping as baselines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PinMappingBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int pinCount;
+
+    @Param({"0.1"})
+    private double duplicateRate;
+
+    private List<Pin> pins;
+    private PinService pinService;
+    private ModelMapper legacyModelMapper;
+    private MethodHandle deduplicatePins;
+    private MethodHandle mapToResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        pins = SyntheticData.pins(pinCount, duplicateRate);
+
+        PinRepository pinRepository = Stubs.of(PinRepository.class).build();
+        legacyModelMapper = LegacyMappings.contentModelMapper();
+        ImageStorageService imageStorageService = new ImageStorageService(
+                Files.createTempDirectory("bench-images").toString());
+        pinService = new PinService(pinRepository, new PinMapperImpl(), imageStorageService, new PinSearchIndex(pinRepository),
+                new PinResponseCache(new SimpleMeterRegistry(), 1 << 20, 300), new ObjectMapper().findAndRegisterModules());
+
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(PinService.class, MethodHandles.lookup());
+        deduplicatePins = lookup.findVirtual(PinService.class, "deduplicatePins",
+                MethodType.methodType(List.class, List.class));
+        mapToResponse = lookup.findVirtual(PinService.class, "mapToResponse",
+                MethodType.methodType(PinResponse.class, Pin.class));
+    }
+
+    @Benchmark
+    public Object deduplicatePins() throws Throwable {
+        return deduplicatePins.invoke(pinService, pins);
+    }
+
+    @Benchmark
+    public void mapToResponse(Blackhole blackhole) throws Throwable {
+        for (Pin pin : pins) {
+            blackhole.consume(mapToResponse.invoke(pinService, pin));
+        }
+    }
+
+    @Benchmark
+    public void mapModelMapper(Blackhole blackhole) {
+        for (Pin pin : pins) {
+            blackhole.consume(LegacyMappings.pinResponse(legacyModelMapper, pin));
+        }
+    }
+
+    @Benchmark
+    public void mapHandWritten(Blackhole blackhole) {
+        for (Pin pin : pins) {
+            blackhole.consume(handWritten(pin));
+        }
+    }
+
+    static PinResponse handWritten(Pin pin) {
+        PinResponse response = new PinResponse();
+        response.setId(pin.getId());
+        response.setTitle(pin.getTitle());
+        response.setDescription(pin.getDescription());
+        response.setImageUrl(pin.getImageUrl());
+        response.setLink(pin.getLink());
+        response.setUserId(pin.getUserId());
+        response.setBoardId(pin.getBoardId());
+        response.setIsPublic(pin.getIsPublic());
+        response.setIsDraft(pin.getIsDraft());
+        response.setIsSponsored(pin.getIsSponsored());
+        response.setSavesCount(pin.getSavesCount());
+        response.setCommentsCount(pin.getCommentsCount());
+        response.setCreatedAt(pin.getCreatedAt());
+        response.setUpdatedAt(pin.getUpdatedAt());
+        response.setParentPinId(pin.getParentPinId());
+        response.setPromotionLink(pin.getPromotionLink());
+        response.setCampaignId(pin.getCampaignId());
+        response.setSponsorName(pin.getSponsorName());
+        response.setKeywords(pin.getKeywords() != null && !pin.getKeywords().isEmpty()
+                ? List.of(pin.getKeywords().split(","))
+                : List.of());
+        return response;
+    }
+}
@@ -0,0 +1,182 @@
+package com.pinterest.benchmarks;
+
+import com.pinterest.auth.entity.User;
+import com.pinterest.business.dto.BusinessProfileRequest;
+import com.pinterest.business.entity.BusinessProfile;
+import com.pinterest.collaboration.entity.Connection;
+import com.pinterest.collaboration.entity.Invitation;
+import com.pinterest.content.dto.BoardRequest;
+import com.pinterest.content.dto.PinRequest;
+import com.pinterest.content.entity.Board;
+import com.pinterest.content.entity.Pin;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic pin and board fixtures. The seed is fixed so every run sees the same data.
+ */
+public final class SyntheticData {
+
+    private static final String[] WORDS = {
+            "autumn", "kitchen", "garden", "minimal", "vintage", "travel", "recipe", "wedding",
+            "interior", "outfit", "sketch", "poster", "cabin", "coastal", "nursery", "workspace"
+    };
+
+    private SyntheticData() {
+    }
+
+    /**
+     * @param duplicateRate fraction of pins that reuse the image of an earlier pin
+     */
+    public static List<Pin> pins(int count, double duplicateRate) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Pin> pins = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = i + 1L;
+            int image = i > 0 && random.nextDouble() < duplicateRate ? random.nextInt(i) : i;
+
+            Pin pin = new Pin();
+            pin.setId(id);
+            pin.setTitle(word(random) + " " + word(random));
+            pin.setDescription("A " + word(random) + " idea for your " + word(random) + " board");
+            pin.setKeywords(word(random) + "," + word(random) + "," + word(random));
+            pin.setImageUrl("/api/content/images/" + String.format("%064x", image));
+            pin.setLink("https://example.com/pins/" + id);
+            pin.setUserId(1L + random.nextInt(Math.max(1, count / 20)));
+            pin.setBoardId(1L + random.nextInt(Math.max(1, count / 50)));
+            pin.setIsPublic(true);
+            pin.setIsDraft(false);
+            pin.setIsSponsored(random.nextInt(20) == 0);
+            pin.setSavesCount(random.nextInt(1000));
+            pin.setCommentsCount(random.nextInt(100));
+            pin.setCreatedAt(base.plusSeconds(i));
+            pin.setUpdatedAt(base.plusSeconds(i));
+            pins.add(pin);
+        }
+        return pins;
+    }
+
+    public static List<Board> boards(int count) {
+        SplittableRandom random = new SplittableRandom(7);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Board> boards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Board board = new Board();
+            board.setId(i + 1L);
+            board.setName(word(random) + " board");
+            board.setDescription("Everything " + word(random));
+            board.setUserId(1L);
+            board.setCreatedAt(base.plusMinutes(i));
+            board.setUpdatedAt(base.plusMinutes(i));
+            boards.add(board);
+        }
+        return boards;
+    }
+
+    public static List<PinRequest> pinRequests(int count) {
+        SplittableRandom random = new SplittableRandom(11);
+        List<PinRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PinRequest request = new PinRequest();
+            request.setTitle(word(random) + " " + word(random));
+            request.setDescription(i % 3 == 0 ? null : "A " + word(random) + " idea");
+            request.setImageUrl("/api/content/images/" + String.format("%064x", i));
+            request.setLink("https://example.com/" + i);
+            request.setBoardId(i % 4 == 0 ? null : 1L + random.nextInt(100));
+            request.setIsPublic(i % 5 != 0);
+            request.setIsDraft(i % 7 == 0);
+            request.setKeywords(List.of(word(random), word(random)));
+            request.setParentPinId(i % 9 == 0 ? (long) i : null);
+            request.setIsSponsored(i % 11 == 0 ? Boolean.TRUE : null);
+            request.setSponsorName(i % 11 == 0 ? "Sponsor " + i : null);
+            request.setCampaignId(i % 11 == 0 ? (long) i : null);
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    public static List<BoardRequest> boardRequests(int count) {
+        SplittableRandom random = new SplittableRandom(13);
+        List<BoardRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(new BoardRequest(word(random) + " board", i % 2 == 0 ? null : "About " + word(random),
+                    i % 3 == 0, null, i % 4 == 0 ? "PROFILE" : "DEFAULT"));
+        }
+        return requests;
+    }
+
+    public static List<User> users(int count) {
+        SplittableRandom random = new SplittableRandom(17);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId(i + 1L);
+            user.setEmail("user" + i + "@example.com");
+            user.setUsername("user" + i);
+            user.setPassword("$2a$10$" + i);
+            user.setFirstName(word(random));
+            user.setLastName(i % 4 == 0 ? null : word(random));
+            user.setBio(i % 2 == 0 ? null : "Pins about " + word(random));
+            user.setMobileNumber(i % 3 == 0 ? null : "555" + i);
+            user.setCreatedAt(base.plusMinutes(i));
+            user.setUpdatedAt(base.plusMinutes(i));
+            users.add(user);
+        }
+        return users;
+    }
+
+    public static List<Connection> connections(int count) {
+        SplittableRandom random = new SplittableRandom(19);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Connection> connections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            connections.add(new Connection(i + 1L, 1L + random.nextInt(count), 1L + random.nextInt(count),
+                    base.plusSeconds(i)));
+        }
+        return connections;
+    }
+
+    public static List<Invitation> invitations(int count) {
+        SplittableRandom random = new SplittableRandom(23);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Invitation> invitations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            invitations.add(new Invitation(i + 1L, i % 2 == 0 ? null : 1L + random.nextInt(1000),
+                    1L + random.nextInt(count), 1L + random.nextInt(count),
+                    i % 2 == 0 ? "FOLLOW" : "BOARD", i % 3 == 0 ? "ACCEPTED" : "PENDING",
+                    base.plusSeconds(i), base.plusSeconds(i)));
+        }
+        return invitations;
+    }
+
+    public static List<BusinessProfile> businessProfiles(int count) {
+        SplittableRandom random = new SplittableRandom(29);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<BusinessProfile> profiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            profiles.add(new BusinessProfile(i + 1L, i + 1L, word(random) + " studio", "We make " + word(random),
+                    i % 2 == 0 ? null : "https://example.com/" + i, null, word(random),
+                    random.nextInt(10000), i % 10 == 0, base.plusMinutes(i), base.plusMinutes(i)));
+        }
+        return profiles;
+    }
+
+    public static List<BusinessProfileRequest> businessProfileRequests(int count) {
+        SplittableRandom random = new SplittableRandom(31);
+        List<BusinessProfileRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(new BusinessProfileRequest(word(random) + " studio", i % 2 == 0 ? null : "We make " + word(random),
+                    "https://example.com/" + i, null, word(random)));
+        }
+        return requests;
+    }
+
+    private static String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
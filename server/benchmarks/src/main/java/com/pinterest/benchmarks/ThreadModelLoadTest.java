@@ -0,0 +1,247 @@
+package com.pinterest.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load generator for comparing request thread models. Latency is measured from each
+ * request's scheduled send time, so queueing inside a saturated server shows up in p99 instead of
+ * silently lowering the offered rate.
+ *
+ * <p>With {@code --url} it drives a running service. To compare the services' thread models, run
+ * the same endpoint once with the default profile and once built and started with
+ * {@code -Pjava21}, which runs the Spring {@code java21} profile. No results from such runs are
+ * recorded here; their numbers depend on the data set and on MySQL.
+ *
+ * <p>Without {@code --url} it only exercises a stub and measures no service. One stub server is
+ * started per mode. Its handler sleeps while holding one of {@code --pool} permits for
+ * {@code --db-ms}, then sleeps for {@code --remote-ms}. The platform mode uses a fixed pool of
+ * {@code --platform-threads} (Tomcat's default is 200), and the virtual mode uses one virtual
+ * thread per request, which needs Java 21. This only illustrates how each executor queues behind
+ * blocking calls, and checks the generator itself.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.pinterest.benchmarks.ThreadModelLoadTest \
+ *     --url http://localhost:8082/api/content/pins --rate 500 --duration 30
+ * java -cp benchmarks/target/benchmarks.jar com.pinterest.benchmarks.ThreadModelLoadTest --rate 3000
+ * </pre>
+ */
+public final class ThreadModelLoadTest {
+
+    private static final long CONNECTION_TIMEOUT_MS = 2000;
+
+    private ThreadModelLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int rate = intOption(options, "rate", 3000);
+        int warmupSeconds = intOption(options, "warmup", 5);
+        int durationSeconds = intOption(options, "duration", 20);
+
+        String url = options.get("url");
+        if (url != null) {
+            print("target", run(URI.create(url), rate, warmupSeconds, durationSeconds));
+            return;
+        }
+
+        int platformThreads = intOption(options, "platform-threads", 200);
+        int pool = intOption(options, "pool", 20);
+        int dbMillis = intOption(options, "db-ms", 5);
+        int remoteMillis = intOption(options, "remote-ms", 100);
+        System.out.printf("Stub only, no service measured: %d permits x %d ms + %d ms sleep, offered %d req/s for %d s%n",
+                pool, dbMillis, remoteMillis, rate, durationSeconds);
+
+        Stub platform = Stub.start(Executors.newFixedThreadPool(platformThreads), pool, dbMillis, remoteMillis);
+        try {
+            print("stub-platform", run(platform.uri(), rate, warmupSeconds, durationSeconds));
+        } finally {
+            platform.stop();
+        }
+
+        ExecutorService virtualThreads = virtualThreadPerTaskExecutor();
+        if (virtualThreads == null) {
+            System.out.println("stub-virtual skipped: virtual threads need Java 21");
+            return;
+        }
+        Stub virtual = Stub.start(virtualThreads, pool, dbMillis, remoteMillis);
+        try {
+            print("stub-virtual", run(virtual.uri(), rate, warmupSeconds, durationSeconds));
+        } finally {
+            virtual.stop();
+        }
+    }
+
+    static Result run(URI uri, int rate, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long warmupRequests = (long) rate * warmupSeconds;
+        int measuredRequests = Math.toIntExact((long) rate * durationSeconds);
+        long totalRequests = warmupRequests + measuredRequests;
+
+        long[] latencies = new long[measuredRequests];
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicLong lastCompletion = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(Math.toIntExact(totalRequests));
+
+        long start = System.nanoTime();
+        long measureStart = start + warmupRequests * intervalNanos;
+        for (long i = 0; i < totalRequests; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = i >= warmupRequests;
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                if (measured) {
+                    long now = System.nanoTime();
+                    lastCompletion.accumulateAndGet(now, Math::max);
+                    if (error != null || response.statusCode() >= 500) {
+                        errors.incrementAndGet();
+                    } else {
+                        latencies[recorded.getAndIncrement()] = now - intended;
+                    }
+                }
+                done.countDown();
+            });
+        }
+        if (!done.await(durationSeconds + 60L, TimeUnit.SECONDS)) {
+            System.out.println("Gave up waiting for " + done.getCount() + " in-flight requests");
+        }
+
+        int count = recorded.get();
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double elapsedSeconds = Math.max(1, lastCompletion.get() - measureStart) / 1e9;
+        return new Result(count / elapsedSeconds, percentile(sorted, 0.50), percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1e6, errors.get());
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private static void print(String mode, Result result) {
+        System.out.printf("%-12s %8.0f req/s   p50 %8.1f ms   p99 %8.1f ms   max %8.1f ms   errors %d%n",
+                mode, result.throughput, result.p50Millis, result.p99Millis, result.maxMillis, result.errors);
+    }
+
+    // Compiled for Java 17, so the Java 21 factory is looked up reflectively.
+    private static ExecutorService virtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    static final class Result {
+        final double throughput;
+        final double p50Millis;
+        final double p99Millis;
+        final double maxMillis;
+        final int errors;
+
+        Result(double throughput, double p50Millis, double p99Millis, double maxMillis, int errors) {
+            this.throughput = throughput;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.maxMillis = maxMillis;
+            this.errors = errors;
+        }
+    }
+
+    /** Sleeps in place of a pooled JDBC call followed by a Feign call; not a service endpoint. */
+    private static final class Stub {
+        private final HttpServer server;
+        private final ExecutorService executor;
+
+        private Stub(HttpServer server, ExecutorService executor) {
+            this.server = server;
+            this.executor = executor;
+        }
+
+        static Stub start(ExecutorService executor, int pool, int dbMillis, int remoteMillis) throws IOException {
+            Semaphore connections = new Semaphore(pool, true);
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+            server.setExecutor(executor);
+            server.createContext("/work", exchange -> {
+                int status = 200;
+                try {
+                    if (connections.tryAcquire(CONNECTION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                        try {
+                            Thread.sleep(dbMillis);
+                        } finally {
+                            connections.release();
+                        }
+                        Thread.sleep(remoteMillis);
+                    } else {
+                        status = 503;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    status = 500;
+                }
+                exchange.sendResponseHeaders(status, -1);
+                exchange.close();
+            });
+            server.start();
+            return new Stub(server, executor);
+        }
+
+        URI uri() {
+            return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/work");
+        }
+
+        void stop() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.pinterest.business.client;
+
+import com.pinterest.business.dto.ConnectionCountsResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+@FeignClient(name = "collaboration-service")
+public interface CollaborationServiceClient {
+    @PostMapping("/api/collaboration/connections/counts")
+    List<ConnectionCountsResponse> getCounts(@RequestBody List<Long> userIds);
+}
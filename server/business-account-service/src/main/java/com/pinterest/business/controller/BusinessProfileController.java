@@ -1,17 +1,28 @@
 package com.pinterest.business.controller;
 
+import com.pinterest.business.dto.BusinessDirectoryEntry;
+import com.pinterest.business.dto.BusinessDirectoryPageResponse;
+import com.pinterest.business.dto.BusinessLogo;
 import com.pinterest.business.dto.BusinessProfileRequest;
 import com.pinterest.business.dto.BusinessProfileResponse;
+import com.pinterest.business.dto.BusinessSuggestionResponse;
 import com.pinterest.business.service.BusinessProfileService;
+import com.pinterest.business.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/business/profiles")
@@ -20,6 +31,9 @@ import java.util.List;
 public class BusinessProfileController {
     private final BusinessProfileService service;
 
+    private static final CacheControl VERSIONED_LOGO_CACHE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    private static final CacheControl LOGO_CACHE = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+
     @PostMapping
     @Operation(summary = "Create business profile")
     public ResponseEntity<BusinessProfileResponse> createProfile(
@@ -31,11 +45,72 @@ public class BusinessProfileController {
 
     @GetMapping
     @Operation(summary = "Get all business profiles")
-    public ResponseEntity<List<BusinessProfileResponse>> getAllProfiles() {
-        List<BusinessProfileResponse> response = service.getAllProfiles();
+    public ResponseEntity<List<BusinessProfileResponse>> getAllProfiles(
+            @RequestParam(value = "includeCounts", defaultValue = "false") boolean includeCounts) {
+        List<BusinessProfileResponse> response = service.getAllProfiles(includeCounts);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/directory")
+    @Operation(summary = "Get a page of the business directory without logo data")
+    public ResponseEntity<BusinessDirectoryPageResponse> getDirectory(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "sort", defaultValue = "name") String sort,
+            @RequestParam(value = "direction", required = false) String direction,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "24") int size) {
+        BusinessDirectoryPageResponse response = service.getDirectory(category, sort, direction, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/directory/search")
+    @Operation(summary = "Search the business directory, tolerating typos")
+    public ResponseEntity<List<BusinessDirectoryEntry>> searchDirectory(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        List<BusinessDirectoryEntry> response = service.searchDirectory(keyword, limit);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Suggest business profiles by name prefix")
+    public ResponseEntity<List<BusinessSuggestionResponse>> autocomplete(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", defaultValue = "8") int limit) {
+        List<BusinessSuggestionResponse> response = service.autocomplete(prefix, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{businessId}/logo")
+    @Operation(summary = "Get business logo image")
+    public ResponseEntity<byte[]> getLogo(
+            @PathVariable("businessId") Long businessId,
+            @RequestParam(value = "v", required = false) String version,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<String> etag = service.getLogoETag(businessId);
+        if (etag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        CacheControl cacheControl = version != null ? VERSIONED_LOGO_CACHE : LOGO_CACHE;
+        if (ETags.matches(ifNoneMatch, etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).cacheControl(cacheControl).build();
+        }
+
+        Optional<BusinessLogo> logo = service.getLogo(businessId);
+        if (logo.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (logo.get().getRedirectUrl() != null) {
+            return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(logo.get().getRedirectUrl())).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag.get())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(logo.get().getContentType()))
+                .header("X-Content-Type-Options", "nosniff")
+                .body(logo.get().getData());
+    }
+
     @GetMapping("/{businessId}")
     @Operation(summary = "Get business profile by ID")
     public ResponseEntity<BusinessProfileResponse> getProfile(@PathVariable("businessId") Long businessId) {
@@ -45,8 +120,10 @@ public class BusinessProfileController {
 
     @GetMapping("/search")
     @Operation(summary = "Search business profiles")
-    public ResponseEntity<List<BusinessProfileResponse>> searchProfiles(@RequestParam("keyword") String keyword) {
-        List<BusinessProfileResponse> response = service.searchProfiles(keyword);
+    public ResponseEntity<List<BusinessProfileResponse>> searchProfiles(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "includeCounts", defaultValue = "false") boolean includeCounts) {
+        List<BusinessProfileResponse> response = service.searchProfiles(keyword, includeCounts);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,38 @@
+package com.pinterest.business.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessDirectoryEntry {
+    private Long id;
+    private Long userId;
+    private String businessName;
+    private String description;
+    private String website;
+    private String category;
+    private Integer followersCount;
+    private Boolean isVerified;
+    private String logoUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public BusinessDirectoryEntry(Long id, Long userId, String businessName, String description, String website,
+                                  String category, Integer followersCount, Boolean isVerified, Boolean hasLogo,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, userId, businessName, description, website, category, followersCount, isVerified,
+                Boolean.TRUE.equals(hasLogo) ? toLogoUrl(id, updatedAt) : null, createdAt, updatedAt);
+    }
+
+    // The version parameter changes whenever the profile is updated, so browsers can cache the logo indefinitely.
+    public static String toLogoUrl(Long id, LocalDateTime updatedAt) {
+        String url = "/api/business/profiles/" + id + "/logo";
+        return updatedAt != null ? url + "?v=" + Timestamp.valueOf(updatedAt).getTime() : url;
+    }
+}
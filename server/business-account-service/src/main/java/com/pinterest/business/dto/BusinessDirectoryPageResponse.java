@@ -0,0 +1,19 @@
+package com.pinterest.business.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessDirectoryPageResponse {
+    private List<BusinessDirectoryEntry> profiles;
+    private Integer page;
+    private Integer size;
+    private Long totalElements;
+    private Integer totalPages;
+    private Boolean hasMore;
+}
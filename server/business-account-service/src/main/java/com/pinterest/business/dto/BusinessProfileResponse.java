@@ -18,6 +18,7 @@ public class BusinessProfileResponse {
     private String logo;
     private String category;
     private Integer followersCount;
+    private Integer followingCount;
     private Boolean isVerified;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
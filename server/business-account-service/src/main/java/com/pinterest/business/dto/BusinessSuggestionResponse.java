@@ -0,0 +1,15 @@
+package com.pinterest.business.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessSuggestionResponse {
+    private Long id;
+    private String businessName;
+    private String category;
+    private String logoUrl;
+}
@@ -0,0 +1,14 @@
+package com.pinterest.business.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionCountsResponse {
+    private Long userId;
+    private Long followersCount;
+    private Long followingCount;
+}
@@ -8,7 +8,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "business_profiles")
+@Table(name = "business_profiles", indexes = {
+        @Index(name = "idx_user_id", columnList = "user_id"),
+        @Index(name = "idx_business_profiles_category_name", columnList = "category, business_name"),
+        @Index(name = "idx_business_profiles_name", columnList = "business_name"),
+        @Index(name = "idx_business_profiles_followers", columnList = "followers_count")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -49,10 +54,19 @@ public class BusinessProfile {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        normalizeLogo();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        normalizeLogo();
+    }
+
+    // "No logo" is always NULL so queries can test it without reading the LONGTEXT.
+    private void normalizeLogo() {
+        if (logo != null && logo.isBlank()) {
+            logo = null;
+        }
     }
 }
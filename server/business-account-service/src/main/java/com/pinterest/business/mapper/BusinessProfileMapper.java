@@ -0,0 +1,22 @@
+package com.pinterest.business.mapper;
+
+import com.pinterest.business.dto.BusinessProfileRequest;
+import com.pinterest.business.dto.BusinessProfileResponse;
+import com.pinterest.business.entity.BusinessProfile;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface BusinessProfileMapper {
+
+    @Mapping(target = "followingCount", ignore = true)
+    BusinessProfileResponse toResponse(BusinessProfile profile);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "userId", ignore = true)
+    @Mapping(target = "followersCount", ignore = true)
+    @Mapping(target = "isVerified", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    BusinessProfile toEntity(BusinessProfileRequest request);
+}
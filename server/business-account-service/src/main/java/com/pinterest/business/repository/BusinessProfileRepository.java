@@ -1,20 +1,70 @@
 package com.pinterest.business.repository;
 
+import com.pinterest.business.dto.BusinessDirectoryEntry;
 import com.pinterest.business.entity.BusinessProfile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BusinessProfileRepository extends JpaRepository<BusinessProfile, Long> {
+    String DIRECTORY_SELECT = "SELECT new com.pinterest.business.dto.BusinessDirectoryEntry(" +
+            "b.id, b.userId, b.businessName, b.description, b.website, b.category, b.followersCount, b.isVerified, " +
+            "CASE WHEN b.logo IS NULL THEN false ELSE true END, b.createdAt, b.updatedAt) " +
+            "FROM BusinessProfile b";
+
     List<BusinessProfile> findByUserId(Long userId);
 
     List<BusinessProfile> findAll();
 
-    @org.springframework.data.jpa.repository.Query("SELECT b FROM BusinessProfile b WHERE " +
+    @Query("SELECT b FROM BusinessProfile b WHERE " +
+            "LOWER(b.businessName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(b.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    List<BusinessProfile> searchProfiles(@Param("keyword") String keyword);
+
+    @Query(DIRECTORY_SELECT + " WHERE " +
             "LOWER(b.businessName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(b.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<BusinessProfile> searchProfiles(@org.springframework.data.repository.query.Param("keyword") String keyword);
+    List<BusinessDirectoryEntry> searchDirectory(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = DIRECTORY_SELECT,
+            countQuery = "SELECT COUNT(b) FROM BusinessProfile b")
+    Page<BusinessDirectoryEntry> findDirectory(Pageable pageable);
+
+    @Query(value = DIRECTORY_SELECT + " WHERE b.category = :category",
+            countQuery = "SELECT COUNT(b) FROM BusinessProfile b WHERE b.category = :category")
+    Page<BusinessDirectoryEntry> findDirectoryByCategory(@Param("category") String category, Pageable pageable);
+
+    @Query(DIRECTORY_SELECT + " WHERE b.id IN :ids")
+    List<BusinessDirectoryEntry> findDirectoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b.id, b.businessName, b.description, b.category, " +
+            "CASE WHEN b.logo IS NULL THEN false ELSE true END, b.updatedAt " +
+            "FROM BusinessProfile b WHERE b.id > :afterId ORDER BY b.id")
+    List<Object[]> findSearchableText(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT b.updatedAt FROM BusinessProfile b WHERE b.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Query("SELECT b.logo FROM BusinessProfile b WHERE b.id = :id")
+    Optional<String> findLogoById(@Param("id") Long id);
+
+    @Query("SELECT b.id, b.userId, b.followersCount FROM BusinessProfile b WHERE b.id > :afterId ORDER BY b.id")
+    List<Object[]> findFollowerCountsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // updatedAt versions the logo URL, so it is pinned here to stop ON UPDATE CURRENT_TIMESTAMP from bumping it.
+    @Modifying
+    @Transactional
+    @Query("UPDATE BusinessProfile b SET b.followersCount = :followersCount, b.updatedAt = b.updatedAt WHERE b.id = :id")
+    int updateFollowersCount(@Param("id") Long id, @Param("followersCount") Integer followersCount);
 }
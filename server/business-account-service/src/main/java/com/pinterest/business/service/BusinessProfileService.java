@@ -1,51 +1,162 @@
 package com.pinterest.business.service;
 
+import com.pinterest.business.client.CollaborationServiceClient;
+import com.pinterest.business.dto.BusinessDirectoryEntry;
+import com.pinterest.business.dto.BusinessDirectoryPageResponse;
+import com.pinterest.business.dto.BusinessLogo;
 import com.pinterest.business.dto.BusinessProfileRequest;
 import com.pinterest.business.dto.BusinessProfileResponse;
+import com.pinterest.business.dto.BusinessSuggestionResponse;
+import com.pinterest.business.dto.ConnectionCountsResponse;
 import com.pinterest.business.entity.BusinessProfile;
 import com.pinterest.business.exception.CustomException;
+import com.pinterest.business.mapper.BusinessProfileMapper;
 import com.pinterest.business.repository.BusinessProfileRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BusinessProfileService {
     private final BusinessProfileRepository repository;
-    private final ModelMapper modelMapper;
+    private final BusinessProfileMapper businessProfileMapper;
+    private final CollaborationServiceClient collaborationServiceClient;
+    private final BusinessSearchIndex searchIndex;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 200;
+    private static final int MAX_SUGGESTIONS = 20;
+    // Matches the per-request id limit of collaboration-service's counts endpoint.
+    private static final int MAX_BATCH_IDS = 1000;
+    private static final Map<String, String> DIRECTORY_SORTS = Map.of(
+            "name", "businessName",
+            "category", "category",
+            "followers", "followersCount");
+    private static final Pattern DATA_URL = Pattern.compile("^data:([\\w.+-]+/[\\w.+-]+)?((?:;[^;,]*)*?);base64,");
+    private static final String DEFAULT_LOGO_CONTENT_TYPE = "application/octet-stream";
+    // Logos are rendered inline, so an SVG or HTML upload must never keep its declared type.
+    private static final Set<String> SAFE_LOGO_CONTENT_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
 
     @Transactional
     public BusinessProfileResponse createProfile(BusinessProfileRequest request, Long userId) {
-        BusinessProfile profile = modelMapper.map(request, BusinessProfile.class);
+        BusinessProfile profile = businessProfileMapper.toEntity(request);
         profile.setUserId(userId);
-        profile = repository.save(profile);
-        return modelMapper.map(profile, BusinessProfileResponse.class);
+        BusinessProfile saved = repository.save(profile);
+        afterCommit(() -> searchIndex.index(saved));
+        return businessProfileMapper.toResponse(saved);
     }
 
-    @Transactional(readOnly = true)
-    public List<BusinessProfileResponse> getAllProfiles() {
-        return repository.findAll().stream()
-                .map(p -> modelMapper.map(p, BusinessProfileResponse.class))
+    // Not transactional: the profiles are read in the repository's own transaction so that no
+    // connection is held while counts are fetched from collaboration-service.
+    public List<BusinessProfileResponse> getAllProfiles(boolean includeCounts) {
+        List<BusinessProfileResponse> profiles = repository.findAll().stream()
+                .map(businessProfileMapper::toResponse)
                 .collect(Collectors.toList());
+        return includeCounts ? withConnectionCounts(profiles) : profiles;
+    }
+
+    @Transactional(readOnly = true)
+    public BusinessDirectoryPageResponse getDirectory(String category, String sort, String direction, int page, int size) {
+        String property = DIRECTORY_SORTS.get(sort == null ? "name" : sort.toLowerCase());
+        if (property == null) {
+            throw new CustomException("Unsupported sort: " + sort);
+        }
+        Sort.Direction order;
+        if (direction == null || direction.isBlank()) {
+            order = "followersCount".equals(property) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        } else {
+            order = Sort.Direction.fromOptionalString(direction)
+                    .orElseThrow(() -> new CustomException("Unsupported sort direction: " + direction));
+        }
+
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_PAGE_SIZE)),
+                Sort.by(order, property).and(Sort.by(order, "id")));
+        Page<BusinessDirectoryEntry> result = category == null || category.isBlank()
+                ? repository.findDirectory(pageRequest)
+                : repository.findDirectoryByCategory(category, pageRequest);
+
+        return new BusinessDirectoryPageResponse(result.getContent(), result.getNumber(), result.getSize(),
+                result.getTotalElements(), result.getTotalPages(), result.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> getLogoETag(Long businessId) {
+        return repository.findUpdatedAtById(businessId)
+                .map(updatedAt -> "\"logo-" + businessId + "-" + Timestamp.valueOf(updatedAt).getTime() + "\"");
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<BusinessLogo> getLogo(Long businessId) {
+        return repository.findLogoById(businessId)
+                .filter(logo -> !logo.isBlank())
+                .map(this::toBusinessLogo);
     }
 
     @Transactional(readOnly = true)
     public BusinessProfileResponse getProfile(Long businessId) {
         BusinessProfile profile = repository.findById(businessId)
                 .orElseThrow(() -> new CustomException("Business profile not found"));
-        return modelMapper.map(profile, BusinessProfileResponse.class);
+        return businessProfileMapper.toResponse(profile);
     }
 
-    @Transactional(readOnly = true)
-    public List<BusinessProfileResponse> searchProfiles(String keyword) {
-        return repository.searchProfiles(keyword).stream()
-                .map(p -> modelMapper.map(p, BusinessProfileResponse.class))
+    public List<BusinessProfileResponse> searchProfiles(String keyword, boolean includeCounts) {
+        List<BusinessProfile> matches;
+        if (searchIndex.isReady()) {
+            List<Long> rankedIds = searchIndex.search(keyword, MAX_SEARCH_RESULTS);
+            Map<Long, BusinessProfile> profilesById = repository.findAllById(rankedIds).stream()
+                    .collect(Collectors.toMap(BusinessProfile::getId, Function.identity()));
+            matches = inRankOrder(rankedIds, profilesById);
+        } else {
+            matches = repository.searchProfiles(keyword);
+        }
+        List<BusinessProfileResponse> profiles = matches.stream()
+                .map(businessProfileMapper::toResponse)
                 .collect(Collectors.toList());
+        return includeCounts ? withConnectionCounts(profiles) : profiles;
+    }
+
+    @Transactional(readOnly = true)
+    public List<BusinessDirectoryEntry> searchDirectory(String keyword, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        if (!searchIndex.isReady()) {
+            return repository.searchDirectory(keyword, PageRequest.of(0, size, Sort.by("businessName", "id")));
+        }
+        List<Long> rankedIds = searchIndex.search(keyword, size);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BusinessDirectoryEntry> entriesById = repository.findDirectoryByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(BusinessDirectoryEntry::getId, Function.identity()));
+        return inRankOrder(rankedIds, entriesById);
+    }
+
+    public List<BusinessSuggestionResponse> autocomplete(String prefix, int limit) {
+        if (!searchIndex.isReady()) {
+            return List.of();
+        }
+        return searchIndex.autocomplete(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
     }
 
     @Transactional(readOnly = true)
@@ -55,7 +166,7 @@ public class BusinessProfileService {
             return null;
         }
         
-        return modelMapper.map(profiles.get(0), BusinessProfileResponse.class);
+        return businessProfileMapper.toResponse(profiles.get(0));
     }
 
     @Transactional
@@ -73,7 +184,86 @@ public class BusinessProfileService {
             profile.setCategory(request.getCategory());
         }
 
-        profile = repository.save(profile);
-        return modelMapper.map(profile, BusinessProfileResponse.class);
+        BusinessProfile saved = repository.save(profile);
+        afterCommit(() -> searchIndex.index(saved));
+        return businessProfileMapper.toResponse(saved);
+    }
+
+    // Counts are best-effort: if collaboration-service is unavailable the stored values are returned as-is.
+    private List<BusinessProfileResponse> withConnectionCounts(List<BusinessProfileResponse> profiles) {
+        List<Long> userIds = profiles.stream()
+                .map(BusinessProfileResponse::getUserId)
+                .distinct()
+                .collect(Collectors.toList());
+        if (userIds.isEmpty()) {
+            return profiles;
+        }
+
+        Map<Long, ConnectionCountsResponse> counts = new HashMap<>();
+        try {
+            for (int from = 0; from < userIds.size(); from += MAX_BATCH_IDS) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + MAX_BATCH_IDS, userIds.size()));
+                collaborationServiceClient.getCounts(chunk)
+                        .forEach(count -> counts.putIfAbsent(count.getUserId(), count));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to fetch connection counts for {} business profiles: {}", userIds.size(), e.getMessage());
+            return profiles;
+        }
+
+        for (BusinessProfileResponse profile : profiles) {
+            ConnectionCountsResponse count = counts.get(profile.getUserId());
+            if (count != null) {
+                profile.setFollowersCount(Math.toIntExact(count.getFollowersCount()));
+                profile.setFollowingCount(Math.toIntExact(count.getFollowingCount()));
+            }
+        }
+        return profiles;
+    }
+
+    private static <T> List<T> inRankOrder(List<Long> rankedIds, Map<Long, T> byId) {
+        return rankedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // Logos are stored as base64 data URLs or external links; external links are redirected to.
+    private BusinessLogo toBusinessLogo(String logo) {
+        if (logo.startsWith("http://") || logo.startsWith("https://")) {
+            return new BusinessLogo(null, null, logo);
+        }
+        Matcher matcher = DATA_URL.matcher(logo);
+        if (!logo.startsWith("data:") || !matcher.find()) {
+            return null;
+        }
+        try {
+            byte[] data = Base64.getMimeDecoder().decode(logo.substring(matcher.end()));
+            return new BusinessLogo(data, safeLogoContentType(matcher.group(1)), null);
+        } catch (IllegalArgumentException e) {
+            log.warn("Stored logo is not valid base64: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String safeLogoContentType(String contentType) {
+        if (contentType == null) {
+            return DEFAULT_LOGO_CONTENT_TYPE;
+        }
+        String normalized = contentType.toLowerCase(Locale.ROOT);
+        return SAFE_LOGO_CONTENT_TYPES.contains(normalized) ? normalized : DEFAULT_LOGO_CONTENT_TYPE;
     }
 }
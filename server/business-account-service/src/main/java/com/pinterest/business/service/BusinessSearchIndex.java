@@ -0,0 +1,375 @@
+package com.pinterest.business.service;
+
+import com.pinterest.business.dto.BusinessDirectoryEntry;
+import com.pinterest.business.dto.BusinessSuggestionResponse;
+import com.pinterest.business.entity.BusinessProfile;
+import com.pinterest.business.repository.BusinessProfileRepository;
+import com.pinterest.business.util.PostingList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory trigram index over business names, categories and descriptions. Queries are split
+ * into padded trigrams the same way, so a profile still matches when a few trigrams are missing,
+ * which covers typos and partial words. Name words are also kept in a sorted map for autocomplete.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double MIN_SIMILARITY = 0.3;
+    private static final double NAME_PREFIX_BONUS = 1.0;
+    private static final double NAME_CONTAINS_BONUS = 0.5;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_PREFIX_EXPANSIONS = 256;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final BusinessProfileRepository repository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    // Profiles saved while a rebuild is reading the table, re-applied to the new segment before the swap.
+    private Map<Long, Source> pendingChanges;
+    private volatile boolean ready = false;
+
+    /**
+     * Reads every profile into a new segment and swaps it in when done. Searches are served from
+     * the previous segment until then, and nothing from it carries over.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        long afterId = 0L;
+        int indexed = 0;
+        List<Object[]> rows;
+        try {
+            do {
+                rows = repository.findSearchableText(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    Long id = (Long) row[0];
+                    String logoUrl = Boolean.TRUE.equals(row[4])
+                            ? BusinessDirectoryEntry.toLogoUrl(id, (LocalDateTime) row[5])
+                            : null;
+                    fresh.add(id, new Source((String) row[1], (String) row[2], (String) row[3], logoUrl));
+                    afterId = id;
+                }
+                indexed += rows.size();
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int trigramCount;
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach((id, source) -> {
+                fresh.remove(id);
+                fresh.add(id, source);
+            });
+            pendingChanges = null;
+            segment = fresh;
+            trigramCount = fresh.trigrams.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ready = true;
+        log.info("Business search index rebuilt: {} profiles, {} trigrams in {} ms",
+                indexed, trigramCount, System.currentTimeMillis() - started);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(BusinessProfile profile) {
+        String logoUrl = profile.getLogo() != null
+                ? BusinessDirectoryEntry.toLogoUrl(profile.getId(), profile.getUpdatedAt())
+                : null;
+        Source source = new Source(profile.getBusinessName(), profile.getDescription(), profile.getCategory(), logoUrl);
+        lock.writeLock().lock();
+        try {
+            segment.remove(profile.getId());
+            segment.add(profile.getId(), source);
+            if (pendingChanges != null) {
+                pendingChanges.put(profile.getId(), source);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns ids of profiles sharing at least {@link #MIN_SIMILARITY} of the query's trigrams,
+     * best match first. Name matches outrank category matches, which outrank description matches.
+     */
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(truncate(query));
+        Set<String> queryTrigrams = trigramsOf(normalized);
+        if (queryTrigrams.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, double[]> hits = new HashMap<>();
+            for (String trigram : queryTrigrams) {
+                PostingList list = segment.trigrams.get(trigram);
+                if (list == null) {
+                    continue;
+                }
+                for (int i = 0; i < list.size(); i++) {
+                    double[] hit = hits.computeIfAbsent(list.id(i), id -> new double[2]);
+                    hit[0]++;
+                    hit[1] += list.weight(i);
+                }
+            }
+
+            int queryCount = queryTrigrams.size();
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>();
+            for (Map.Entry<Long, double[]> entry : hits.entrySet()) {
+                double[] hit = entry.getValue();
+                if (hit[0] / queryCount < MIN_SIMILARITY) {
+                    continue;
+                }
+                double score = hit[1] / (queryCount * (double) NAME_WEIGHT);
+                String name = segment.documents.get(entry.getKey()).normalizedName;
+                if (name.startsWith(normalized)) {
+                    score += NAME_PREFIX_BONUS;
+                } else if (name.contains(normalized)) {
+                    score += NAME_CONTAINS_BONUS;
+                }
+                ranked.add(Map.entry(entry.getKey(), score));
+            }
+
+            Comparator<Map.Entry<Long, Double>> bestFirst = Map.Entry.<Long, Double>comparingByValue().reversed();
+            ranked.sort(bestFirst.thenComparing(Map.Entry.<Long, Double>comparingByKey()));
+            List<Long> result = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (int i = 0; i < ranked.size() && i < limit; i++) {
+                result.add(ranked.get(i).getKey());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns profiles with a name word starting with the prefix. Profiles whose whole name starts
+     * with it come first, then alphabetical by name.
+     */
+    public List<BusinessSuggestionResponse> autocomplete(String prefix, int limit) {
+        String normalized = normalize(truncate(prefix));
+        List<String> words = tokenize(normalized);
+        if (words.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String lastWord = words.get(words.size() - 1);
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new LinkedHashSet<>();
+            int expansions = 0;
+            for (Map.Entry<String, PostingList> entry : segment.nameWords.tailMap(lastWord, true).entrySet()) {
+                if (!entry.getKey().startsWith(lastWord) || expansions++ >= MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                PostingList list = entry.getValue();
+                for (int i = 0; i < list.size(); i++) {
+                    candidates.add(list.id(i));
+                }
+            }
+
+            List<Document> matches = new ArrayList<>();
+            for (Long id : candidates) {
+                Document document = segment.documents.get(id);
+                if (containsLeadingWords(document.normalizedName, words)) {
+                    matches.add(document);
+                }
+            }
+            matches.sort(Comparator.<Document, Boolean>comparing(d -> !d.normalizedName.startsWith(normalized))
+                    .thenComparing(d -> d.normalizedName)
+                    .thenComparing(d -> d.id));
+
+            List<BusinessSuggestionResponse> result = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size() && i < limit; i++) {
+                Document document = matches.get(i);
+                result.add(new BusinessSuggestionResponse(document.id, document.businessName,
+                        document.category, document.logoUrl));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // A field contributes each trigram once, with the weight of the strongest field containing it.
+    private static void accumulate(Map<String, Integer> weights, String text, int weight) {
+        for (String trigram : trigramsOf(normalize(text))) {
+            weights.merge(trigram, weight, Math::max);
+        }
+    }
+
+    // The last word is the prefix being typed; the ones before it must already appear in the name.
+    private static boolean containsLeadingWords(String name, List<String> words) {
+        for (int i = 0; i < words.size() - 1; i++) {
+            if (!name.contains(words.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String truncate(String query) {
+        return query != null && query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static List<String> tokenize(String normalized) {
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Words are padded like pg_trgm ("  w", " wo", "wor", "ord", "rd ") so short words and word
+    // boundaries still produce trigrams.
+    private static Set<String> trigramsOf(String normalized) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String word : tokenize(normalized)) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                result.add(padded.substring(i, i + 3));
+            }
+        }
+        return result;
+    }
+
+    private static final class Source {
+        private final String businessName;
+        private final String description;
+        private final String category;
+        private final String logoUrl;
+
+        Source(String businessName, String description, String category, String logoUrl) {
+            this.businessName = businessName;
+            this.description = description;
+            this.category = category;
+            this.logoUrl = logoUrl;
+        }
+    }
+
+    /** One complete index; replaced wholesale by {@link #rebuild()}. */
+    private static final class Segment {
+        private final Map<String, PostingList> trigrams = new HashMap<>();
+        private final TreeMap<String, PostingList> nameWords = new TreeMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+
+        void add(Long id, Source source) {
+            Map<String, Integer> weights = new HashMap<>();
+            accumulate(weights, source.businessName, NAME_WEIGHT);
+            accumulate(weights, source.category, CATEGORY_WEIGHT);
+            accumulate(weights, source.description, DESCRIPTION_WEIGHT);
+
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                trigrams.computeIfAbsent(entry.getKey(), trigram -> new PostingList()).put(id, entry.getValue());
+            }
+            String normalizedName = normalize(source.businessName);
+            List<String> words = tokenize(normalizedName);
+            for (String word : words) {
+                nameWords.computeIfAbsent(word, w -> new PostingList()).put(id, NAME_WEIGHT);
+            }
+            documents.put(id, new Document(id, source.businessName, normalizedName, source.category,
+                    source.logoUrl, weights.keySet().toArray(new String[0]), words.toArray(new String[0])));
+        }
+
+        void remove(Long id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            for (String trigram : document.trigrams) {
+                PostingList list = trigrams.get(trigram);
+                if (list != null && list.remove(id) && list.size() == 0) {
+                    trigrams.remove(trigram);
+                }
+            }
+            for (String word : document.words) {
+                PostingList list = nameWords.get(word);
+                if (list != null && list.remove(id) && list.size() == 0) {
+                    nameWords.remove(word);
+                }
+            }
+        }
+    }
+
+    private static final class Document {
+        private final Long id;
+        private final String businessName;
+        private final String normalizedName;
+        private final String category;
+        private final String logoUrl;
+        private final String[] trigrams;
+        private final String[] words;
+
+        Document(Long id, String businessName, String normalizedName, String category, String logoUrl,
+                 String[] trigrams, String[] words) {
+            this.id = id;
+            this.businessName = businessName;
+            this.normalizedName = normalizedName;
+            this.category = category;
+            this.logoUrl = logoUrl;
+            this.trigrams = trigrams;
+            this.words = words;
+        }
+    }
+}
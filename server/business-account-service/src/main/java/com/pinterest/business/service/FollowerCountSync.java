@@ -0,0 +1,65 @@
+package com.pinterest.business.service;
+
+import com.pinterest.business.client.CollaborationServiceClient;
+import com.pinterest.business.dto.ConnectionCountsResponse;
+import com.pinterest.business.repository.BusinessProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Copies follower counts from collaboration-service into business_profiles.followers_count so the
+ * directory can sort and page by followers with an index instead of a cross-service call per page.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowerCountSync {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BusinessProfileRepository repository;
+    private final CollaborationServiceClient collaborationServiceClient;
+
+    @Scheduled(initialDelayString = "${business.directory.follower-sync-initial-delay-ms:30000}",
+            fixedDelayString = "${business.directory.follower-sync-interval-ms:300000}")
+    public void sync() {
+        long afterId = 0L;
+        int updated = 0;
+        List<Object[]> rows;
+        try {
+            do {
+                rows = repository.findFollowerCountsAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Long> userIds = rows.stream().map(row -> (Long) row[1]).distinct().collect(Collectors.toList());
+                Map<Long, Long> followers = new HashMap<>();
+                for (ConnectionCountsResponse count : collaborationServiceClient.getCounts(userIds)) {
+                    followers.put(count.getUserId(), count.getFollowersCount());
+                }
+
+                for (Object[] row : rows) {
+                    Long followersCount = followers.get((Long) row[1]);
+                    if (followersCount != null && !Objects.equals((Integer) row[2], Math.toIntExact(followersCount))) {
+                        updated += repository.updateFollowersCount((Long) row[0], Math.toIntExact(followersCount));
+                    }
+                    afterId = (Long) row[0];
+                }
+            } while (rows.size() == BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("Follower count sync stopped after id {}: {}", afterId, e.getMessage());
+        }
+        if (updated > 0) {
+            log.info("Synced follower counts for {} business profiles", updated);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.pinterest.business.mapper;
+
+import com.pinterest.business.dto.BusinessProfileRequest;
+import com.pinterest.business.dto.BusinessProfileResponse;
+import com.pinterest.business.entity.BusinessProfile;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Checks the generated business profile mapper against the default ModelMapper configuration it replaced. */
+class BusinessProfileMapperTest {
+
+    private final BusinessProfileMapper businessProfileMapper = new BusinessProfileMapperImpl();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void toResponseMatchesModelMapper() {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 12, 0);
+        BusinessProfile profile = new BusinessProfile(1L, 2L, "Cabin studio", "We make cabins",
+                "https://example.com", "data:image/png;base64,AAAA", "Home", 42, true, created, created.plusDays(1));
+
+        BusinessProfileResponse response = businessProfileMapper.toResponse(profile);
+
+        assertThat(response).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(profile, BusinessProfileResponse.class));
+        // Filled in from connection counts by BusinessProfileService.
+        assertThat(response.getFollowingCount()).isNull();
+    }
+
+    @Test
+    void toResponseMatchesModelMapperWithNullFields() {
+        BusinessProfile profile = new BusinessProfile(1L, 2L, "Cabin studio", null, null, null, null,
+                null, null, null, null);
+
+        assertThat(businessProfileMapper.toResponse(profile)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(profile, BusinessProfileResponse.class));
+    }
+
+    @Test
+    void toEntityMatchesModelMapper() {
+        BusinessProfileRequest request = new BusinessProfileRequest("Cabin studio", null, "https://example.com",
+                null, "Home");
+
+        BusinessProfile profile = businessProfileMapper.toEntity(request);
+
+        assertThat(profile).usingRecursiveComparison().isEqualTo(modelMapper.map(request, BusinessProfile.class));
+        assertThat(profile.getId()).isNull();
+        assertThat(profile.getUserId()).isNull();
+        assertThat(profile.getFollowersCount()).isZero();
+        assertThat(profile.getIsVerified()).isFalse();
+    }
+}
@@ -0,0 +1,47 @@
+package com.pinterest.business.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListTest {
+
+    @Test
+    void keepsIdsSortedAcrossGrowth() {
+        PostingList list = new PostingList();
+        long[] inserted = {50L, 10L, 30L, 70L, 20L, 60L, 40L};
+        for (long id : inserted) {
+            list.put(id, (int) id / 10);
+        }
+
+        assertThat(list.size()).isEqualTo(7);
+        for (int i = 0; i < list.size(); i++) {
+            assertThat(list.id(i)).isEqualTo((i + 1) * 10L);
+            assertThat(list.weight(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    void putReplacesWeightOfExistingId() {
+        PostingList list = new PostingList();
+        list.put(5L, 1);
+        list.put(5L, 9);
+
+        assertThat(list.size()).isEqualTo(1);
+        assertThat(list.weight(0)).isEqualTo(9);
+    }
+
+    @Test
+    void removeShiftsRemainingEntries() {
+        PostingList list = new PostingList();
+        list.put(1L, 10);
+        list.put(2L, 20);
+        list.put(3L, 30);
+
+        assertThat(list.remove(2L)).isTrue();
+        assertThat(list.remove(2L)).isFalse();
+        assertThat(list.size()).isEqualTo(2);
+        assertThat(list.id(1)).isEqualTo(3L);
+        assertThat(list.weight(1)).isEqualTo(30);
+    }
+}
@@ -1,11 +1,13 @@
 package com.pinterest.collaboration.client;
 
+import com.pinterest.collaboration.dto.BulkCollaboratorRequest;
+import com.pinterest.collaboration.dto.BulkCollaboratorResponse;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(name = "content-service")
 public interface ContentServiceClient {
-    @PostMapping("/api/content/boards/{boardId}/collaborators/{userId}")
-    void addCollaborator(@PathVariable("boardId") Long boardId, @PathVariable("userId") Long userId);
+    @PostMapping("/api/content/boards/collaborators/bulk")
+    BulkCollaboratorResponse addCollaborators(@RequestBody BulkCollaboratorRequest request);
 }
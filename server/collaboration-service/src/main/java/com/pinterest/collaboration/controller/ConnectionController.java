@@ -1,6 +1,9 @@
 package com.pinterest.collaboration.controller;
 
+import com.pinterest.collaboration.dto.ConnectionCountsResponse;
+import com.pinterest.collaboration.dto.ConnectionPageResponse;
 import com.pinterest.collaboration.dto.ConnectionResponse;
+import com.pinterest.collaboration.dto.FollowSuggestionResponse;
 import com.pinterest.collaboration.service.ConnectionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -48,4 +51,64 @@ public class ConnectionController {
         List<ConnectionResponse> response = connectionService.getFollowing(userId);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/is-following")
+    @Operation(summary = "Check whether one user follows another")
+    public ResponseEntity<Boolean> isFollowing(
+            @RequestParam("followerId") Long followerId,
+            @RequestParam("followingId") Long followingId) {
+        return ResponseEntity.ok(connectionService.isFollowing(followerId, followingId));
+    }
+
+    @GetMapping("/mutual/{userId}")
+    @Operation(summary = "Get users who follow each other with the given user")
+    public ResponseEntity<List<Long>> getMutualFollows(
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        List<Long> response = connectionService.getMutualFollows(userId, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/suggestions/{userId}")
+    @Operation(summary = "Get people you may know, ranked by shared connections")
+    public ResponseEntity<List<FollowSuggestionResponse>> getSuggestions(
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        List<FollowSuggestionResponse> response = connectionService.getSuggestions(userId, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/counts/{userId}")
+    @Operation(summary = "Get follower and following counts")
+    public ResponseEntity<ConnectionCountsResponse> getCounts(@PathVariable("userId") Long userId) {
+        ConnectionCountsResponse response = connectionService.getCounts(userId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/counts")
+    @Operation(summary = "Get follower and following counts for several users")
+    public ResponseEntity<List<ConnectionCountsResponse>> getCountsBatch(@RequestBody List<Long> userIds) {
+        List<ConnectionCountsResponse> response = connectionService.getCounts(userIds);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/followers/{userId}/page")
+    @Operation(summary = "Get a page of user followers, newest first")
+    public ResponseEntity<ConnectionPageResponse> getFollowersPage(
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        ConnectionPageResponse response = connectionService.getFollowersPage(userId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/following/{userId}/page")
+    @Operation(summary = "Get a page of users followed, newest first")
+    public ResponseEntity<ConnectionPageResponse> getFollowingPage(
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        ConnectionPageResponse response = connectionService.getFollowingPage(userId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,19 @@
+package com.pinterest.collaboration.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCollaboratorRequest {
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid CollaboratorAdditionRequest> additions;
+}
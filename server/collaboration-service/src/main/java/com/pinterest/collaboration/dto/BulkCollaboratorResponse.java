@@ -0,0 +1,19 @@
+package com.pinterest.collaboration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCollaboratorResponse {
+    private List<String> applied = new ArrayList<>();
+    private List<String> duplicates = new ArrayList<>();
+    private Map<String, String> rejected = new LinkedHashMap<>();
+}
@@ -0,0 +1,16 @@
+package com.pinterest.collaboration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPageResponse {
+    private List<ConnectionResponse> connections;
+    private String nextCursor;
+    private Boolean hasMore;
+}
@@ -0,0 +1,13 @@
+package com.pinterest.collaboration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowSuggestionResponse {
+    private Long userId;
+    private Integer mutualConnections;
+}
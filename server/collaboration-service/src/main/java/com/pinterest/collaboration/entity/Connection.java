@@ -8,7 +8,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "connections")
+@Table(name = "connections",
+        uniqueConstraints = @UniqueConstraint(name = "unique_connection", columnNames = {"follower_id", "following_id"}),
+        indexes = {
+                @Index(name = "idx_connections_follower_created", columnList = "follower_id, created_at"),
+                @Index(name = "idx_connections_following_created", columnList = "following_id, created_at")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,7 +28,7 @@ public class Connection {
     @Column(name = "following_id", nullable = false)
     private Long followingId;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     @PrePersist
@@ -0,0 +1,23 @@
+package com.pinterest.collaboration.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "connection_counts")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionCount {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "followers_count", nullable = false)
+    private Long followersCount = 0L;
+
+    @Column(name = "following_count", nullable = false)
+    private Long followingCount = 0L;
+}
@@ -0,0 +1,76 @@
+package com.pinterest.collaboration.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events",
+        uniqueConstraints = @UniqueConstraint(name = "unique_outbox_idempotency_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_outbox_events_status_next", columnList = "status, next_attempt_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    public static final String BOARD_COLLABORATOR_ADDED = "BOARD_COLLABORATOR_ADDED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = "PENDING";
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static OutboxEvent boardCollaboratorAdded(Long boardId, Long userId, String idempotencyKey) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType(BOARD_COLLABORATOR_ADDED);
+        event.setIdempotencyKey(idempotencyKey);
+        event.setBoardId(boardId);
+        event.setUserId(userId);
+        return event;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,11 @@
+package com.pinterest.collaboration.mapper;
+
+import com.pinterest.collaboration.dto.ConnectionResponse;
+import com.pinterest.collaboration.entity.Connection;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ConnectionMapper {
+
+    ConnectionResponse toResponse(Connection connection);
+}
@@ -0,0 +1,11 @@
+package com.pinterest.collaboration.mapper;
+
+import com.pinterest.collaboration.dto.InvitationResponse;
+import com.pinterest.collaboration.entity.Invitation;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface InvitationMapper {
+
+    InvitationResponse toResponse(Invitation invitation);
+}
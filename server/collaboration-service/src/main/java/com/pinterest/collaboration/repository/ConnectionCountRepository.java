@@ -0,0 +1,39 @@
+package com.pinterest.collaboration.repository;
+
+import com.pinterest.collaboration.entity.ConnectionCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ConnectionCountRepository extends JpaRepository<ConnectionCount, Long> {
+
+    List<ConnectionCount> findByUserIdIn(Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO connection_counts (user_id, followers_count, following_count) " +
+            "VALUES (:userId, GREATEST(:followersDelta, 0), GREATEST(:followingDelta, 0)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "followers_count = GREATEST(followers_count + :followersDelta, 0), " +
+            "following_count = GREATEST(following_count + :followingDelta, 0)",
+            nativeQuery = true)
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("followersDelta") long followersDelta,
+                   @Param("followingDelta") long followingDelta);
+
+    @Modifying
+    @Query(value = "INSERT INTO connection_counts (user_id, followers_count, following_count) " +
+            "SELECT user_id, SUM(followers), SUM(following) FROM (" +
+            "SELECT following_id AS user_id, COUNT(*) AS followers, 0 AS following FROM connections GROUP BY following_id " +
+            "UNION ALL " +
+            "SELECT follower_id AS user_id, 0 AS followers, COUNT(*) AS following FROM connections GROUP BY follower_id" +
+            ") totals GROUP BY user_id " +
+            "ON DUPLICATE KEY UPDATE followers_count = VALUES(followers_count), following_count = VALUES(following_count)",
+            nativeQuery = true)
+    int recountAll();
+}
@@ -1,9 +1,14 @@
 package com.pinterest.collaboration.repository;
 
 import com.pinterest.collaboration.entity.Connection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,8 +18,29 @@ public interface ConnectionRepository extends JpaRepository<Connection, Long> {
     List<Connection> findByFollowingId(Long followingId);
     Optional<Connection> findByFollowerIdAndFollowingId(Long followerId, Long followingId);
     boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
-}
 
+    @Query("SELECT c.id, c.followerId, c.followingId FROM Connection c WHERE c.id > :afterId ORDER BY c.id")
+    List<Object[]> findEdgesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Connection c WHERE c.followerId = :followerId AND c.followingId = :followingId")
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
 
+    @Query("SELECT c FROM Connection c WHERE c.followingId = :userId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Connection> findFollowersPage(@Param("userId") Long userId, Pageable pageable);
 
+    @Query("SELECT c FROM Connection c WHERE c.followingId = :userId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Connection> findFollowersPageAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable pageable);
 
+    @Query("SELECT c FROM Connection c WHERE c.followerId = :userId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Connection> findFollowingPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT c FROM Connection c WHERE c.followerId = :userId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Connection> findFollowingPageAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable pageable);
+}
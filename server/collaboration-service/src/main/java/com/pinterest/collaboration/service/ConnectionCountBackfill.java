@@ -0,0 +1,33 @@
+package com.pinterest.collaboration.service;
+
+import com.pinterest.collaboration.repository.ConnectionCountRepository;
+import com.pinterest.collaboration.repository.ConnectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Seeds connection_counts from the connections table the first time the service starts against
+ * a database that predates the counters. Afterwards follow and unfollow keep them current.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConnectionCountBackfill {
+
+    private final ConnectionRepository connectionRepository;
+    private final ConnectionCountRepository connectionCountRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (connectionCountRepository.count() > 0 || connectionRepository.count() == 0) {
+            return;
+        }
+        int rows = connectionCountRepository.recountAll();
+        log.info("Backfilled follower counts for {} users", rows);
+    }
+}
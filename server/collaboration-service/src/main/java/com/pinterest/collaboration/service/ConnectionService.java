@@ -1,51 +1,155 @@
 package com.pinterest.collaboration.service;
 
+import com.pinterest.collaboration.dto.ConnectionCountsResponse;
+import com.pinterest.collaboration.dto.ConnectionPageResponse;
 import com.pinterest.collaboration.dto.ConnectionResponse;
+import com.pinterest.collaboration.dto.FollowSuggestionResponse;
 import com.pinterest.collaboration.entity.Connection;
+import com.pinterest.collaboration.entity.ConnectionCount;
 import com.pinterest.collaboration.exception.CustomException;
+import com.pinterest.collaboration.mapper.ConnectionMapper;
+import com.pinterest.collaboration.repository.ConnectionCountRepository;
 import com.pinterest.collaboration.repository.ConnectionRepository;
+import com.pinterest.collaboration.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ConnectionService {
     private final ConnectionRepository connectionRepository;
-    private final ModelMapper modelMapper;
+    private final ConnectionCountRepository connectionCountRepository;
+    private final ConnectionMapper connectionMapper;
+    private final SocialGraph socialGraph;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_IDS = 1000;
 
     @Transactional
     public ConnectionResponse followUser(Long followerId, Long followingId) {
         if (followerId.equals(followingId)) {
             throw new CustomException("Cannot follow yourself");
         }
-        if (connectionRepository.existsByFollowerIdAndFollowingId(followerId, followingId)) {
-            throw new CustomException("Already following this user");
-        }
+        // The unique constraint on the pair rejects duplicates, so there is no existence query first.
         Connection connection = new Connection();
         connection.setFollowerId(followerId);
         connection.setFollowingId(followingId);
-        connection = connectionRepository.save(connection);
-        return modelMapper.map(connection, ConnectionResponse.class);
+        try {
+            connection = connectionRepository.saveAndFlush(connection);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException("Already following this user");
+        }
+        adjustCounts(followerId, followingId, 1);
+        afterCommit(() -> socialGraph.follow(followerId, followingId));
+        return connectionMapper.toResponse(connection);
     }
 
     @Transactional
     public void unfollowUser(Long followerId, Long followingId) {
-        Connection connection = connectionRepository
-                .findByFollowerIdAndFollowingId(followerId, followingId)
-                .orElseThrow(() -> new CustomException("Connection not found"));
-        connectionRepository.delete(connection);
+        if (connectionRepository.deleteByFollowerIdAndFollowingId(followerId, followingId) == 0) {
+            throw new CustomException("Connection not found");
+        }
+        adjustCounts(followerId, followingId, -1);
+        afterCommit(() -> socialGraph.unfollow(followerId, followingId));
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isFollowing(Long followerId, Long followingId) {
+        if (socialGraph.isReady()) {
+            return socialGraph.isFollowing(followerId, followingId);
+        }
+        return connectionRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getMutualFollows(Long userId, int limit) {
+        int cappedLimit = clampPageSize(limit);
+        if (socialGraph.isReady()) {
+            return socialGraph.mutualFollows(userId, cappedLimit);
+        }
+        Set<Long> followerIds = new HashSet<>();
+        for (Connection connection : connectionRepository.findByFollowingId(userId)) {
+            followerIds.add(connection.getFollowerId());
+        }
+        return connectionRepository.findByFollowerId(userId).stream()
+                .map(Connection::getFollowingId)
+                .filter(followerIds::contains)
+                .sorted()
+                .limit(cappedLimit)
+                .collect(Collectors.toList());
+    }
+
+    // Suggestions are only served from the in-memory graph; while it loads the list is empty.
+    public List<FollowSuggestionResponse> getSuggestions(Long userId, int limit) {
+        if (!socialGraph.isReady()) {
+            return List.of();
+        }
+        return socialGraph.suggestions(userId, clampPageSize(limit)).entrySet().stream()
+                .map(entry -> new FollowSuggestionResponse(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public ConnectionCountsResponse getCounts(Long userId) {
+        if (socialGraph.isReady()) {
+            return graphCounts(userId);
+        }
+        return connectionCountRepository.findById(userId)
+                .map(count -> new ConnectionCountsResponse(userId, count.getFollowersCount(), count.getFollowingCount()))
+                .orElseGet(() -> new ConnectionCountsResponse(userId, 0L, 0L));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ConnectionCountsResponse> getCounts(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        ids.remove(null);
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new CustomException("At most " + MAX_BATCH_IDS + " user ids can be requested at once");
+        }
+
+        if (socialGraph.isReady()) {
+            return ids.stream().map(this::graphCounts).collect(Collectors.toList());
+        }
+
+        Map<Long, ConnectionCount> found = connectionCountRepository.findByUserIdIn(ids).stream()
+                .collect(Collectors.toMap(ConnectionCount::getUserId, Function.identity()));
+        List<ConnectionCountsResponse> counts = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ConnectionCount count = found.get(id);
+            counts.add(count == null
+                    ? new ConnectionCountsResponse(id, 0L, 0L)
+                    : new ConnectionCountsResponse(id, count.getFollowersCount(), count.getFollowingCount()));
+        }
+        return counts;
+    }
+
+    private ConnectionCountsResponse graphCounts(Long userId) {
+        return new ConnectionCountsResponse(userId,
+                (long) socialGraph.followerCount(userId), (long) socialGraph.followingCount(userId));
     }
 
     @Transactional(readOnly = true)
     public List<ConnectionResponse> getFollowers(Long userId) {
         List<Connection> connections = connectionRepository.findByFollowingId(userId);
         return connections.stream()
-                .map(conn -> modelMapper.map(conn, ConnectionResponse.class))
+                .map(connectionMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -53,11 +157,77 @@ public class ConnectionService {
     public List<ConnectionResponse> getFollowing(Long userId) {
         List<Connection> connections = connectionRepository.findByFollowerId(userId);
         return connections.stream()
-                .map(conn -> modelMapper.map(conn, ConnectionResponse.class))
+                .map(connectionMapper::toResponse)
                 .collect(Collectors.toList());
     }
-}
 
+    @Transactional(readOnly = true)
+    public ConnectionPageResponse getFollowersPage(Long userId, String cursor, int size) {
+        PageRequest page = PageRequest.of(0, clampPageSize(size) + 1);
+        List<Connection> connections;
+        if (cursor == null || cursor.isBlank()) {
+            connections = connectionRepository.findFollowersPage(userId, page);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            connections = connectionRepository.findFollowersPageAfter(userId, after.getCreatedAt(), after.getId(), page);
+        }
+        return toPage(connections, page.getPageSize() - 1);
+    }
+
+    @Transactional(readOnly = true)
+    public ConnectionPageResponse getFollowingPage(Long userId, String cursor, int size) {
+        PageRequest page = PageRequest.of(0, clampPageSize(size) + 1);
+        List<Connection> connections;
+        if (cursor == null || cursor.isBlank()) {
+            connections = connectionRepository.findFollowingPage(userId, page);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            connections = connectionRepository.findFollowingPageAfter(userId, after.getCreatedAt(), after.getId(), page);
+        }
+        return toPage(connections, page.getPageSize() - 1);
+    }
 
+    // Counter rows are always locked in user id order so two users following each other at
+    // the same time cannot deadlock.
+    private void adjustCounts(Long followerId, Long followingId, int delta) {
+        if (followerId < followingId) {
+            connectionCountRepository.applyDelta(followerId, 0, delta);
+            connectionCountRepository.applyDelta(followingId, delta, 0);
+        } else {
+            connectionCountRepository.applyDelta(followingId, delta, 0);
+            connectionCountRepository.applyDelta(followerId, 0, delta);
+        }
+    }
 
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // One extra row is fetched to tell whether another page exists.
+    private ConnectionPageResponse toPage(List<Connection> connections, int pageSize) {
+        boolean hasMore = connections.size() > pageSize;
+        List<Connection> pageRows = hasMore ? connections.subList(0, pageSize) : connections;
+        String nextCursor = null;
+        if (hasMore) {
+            Connection last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        List<ConnectionResponse> responses = pageRows.stream()
+                .map(connectionMapper::toResponse)
+                .collect(Collectors.toList());
+        return new ConnectionPageResponse(responses, nextCursor, hasMore);
+    }
+}
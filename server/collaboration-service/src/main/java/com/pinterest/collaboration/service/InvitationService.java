@@ -3,24 +3,24 @@ package com.pinterest.collaboration.service;
 import com.pinterest.collaboration.dto.InvitationRequest;
 import com.pinterest.collaboration.dto.InvitationResponse;
 import com.pinterest.collaboration.entity.Invitation;
+import com.pinterest.collaboration.entity.OutboxEvent;
 import com.pinterest.collaboration.exception.CustomException;
+import com.pinterest.collaboration.mapper.InvitationMapper;
 import com.pinterest.collaboration.repository.InvitationRepository;
+import com.pinterest.collaboration.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
-import com.pinterest.collaboration.client.ContentServiceClient;
-
 @Service
 @RequiredArgsConstructor
 public class InvitationService {
     private final InvitationRepository invitationRepository;
-    private final ModelMapper modelMapper;
-    private final ContentServiceClient contentServiceClient;
+    private final InvitationMapper invitationMapper;
+    private final OutboxEventRepository outboxEventRepository;
     private final ConnectionService connectionService;
 
     @Transactional
@@ -33,14 +33,14 @@ public class InvitationService {
         invitation.setStatus("PENDING");
 
         invitation = invitationRepository.save(invitation);
-        return modelMapper.map(invitation, InvitationResponse.class);
+        return invitationMapper.toResponse(invitation);
     }
 
     @Transactional(readOnly = true)
     public List<InvitationResponse> getInvitations(Long userId) {
         List<Invitation> invitations = invitationRepository.findByInviteeIdAndStatus(userId, "PENDING");
         return invitations.stream()
-                .map(inv -> modelMapper.map(inv, InvitationResponse.class))
+                .map(invitationMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -53,16 +53,15 @@ public class InvitationService {
             throw new CustomException("You don't have permission to respond to this invitation");
         }
 
+        boolean newlyAccepted = "ACCEPTED".equals(response) && !"ACCEPTED".equals(invitation.getStatus());
         invitation.setStatus(response);
         invitation = invitationRepository.save(invitation);
 
-        if ("ACCEPTED".equals(response)) {
+        if (newlyAccepted) {
             if ("BOARD_COLLABORATION".equals(invitation.getInvitationType())) {
-                try {
-                    contentServiceClient.addCollaborator(invitation.getBoardId(), userId);
-                } catch (Exception e) {
-                    throw new CustomException("Failed to add collaborator to board: " + e.getMessage());
-                }
+                // Committed with the invitation and delivered to content-service by OutboxDispatcher.
+                outboxEventRepository.save(OutboxEvent.boardCollaboratorAdded(
+                        invitation.getBoardId(), userId, "invitation-" + invitation.getId()));
             } else if ("CONNECTION".equals(invitation.getInvitationType())) {
                 
                 try {
@@ -73,6 +72,6 @@ public class InvitationService {
             }
         }
 
-        return modelMapper.map(invitation, InvitationResponse.class);
+        return invitationMapper.toResponse(invitation);
     }
 }
@@ -0,0 +1,160 @@
+package com.pinterest.collaboration.service;
+
+import com.pinterest.collaboration.client.ContentServiceClient;
+import com.pinterest.collaboration.dto.BulkCollaboratorRequest;
+import com.pinterest.collaboration.dto.BulkCollaboratorResponse;
+import com.pinterest.collaboration.dto.CollaboratorAdditionRequest;
+import com.pinterest.collaboration.entity.OutboxEvent;
+import com.pinterest.collaboration.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Delivers board-collaborator events from the outbox to content-service in batches. Rows are
+ * claimed with a short lease in one transaction, sent without holding any locks or connections,
+ * and settled in a second transaction. Content-service deduplicates on the idempotency key, so a
+ * batch that is resent after a lost response or an expired lease is harmless.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long INITIAL_BACKOFF_MS = 2000;
+    private static final long MAX_BACKOFF_MS = 300_000;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ContentServiceClient contentServiceClient;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${collaboration.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${collaboration.outbox.lease-ms:30000}")
+    private long leaseMillis;
+
+    @Value("${collaboration.outbox.retention-hours:72}")
+    private long retentionHours;
+
+    /**
+     * Drains due events a batch at a time. The tick ends at the first failed send so an
+     * unavailable content-service is not asked again until the next poll.
+     */
+    @Scheduled(fixedDelayString = "${collaboration.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<OutboxEvent> batch;
+        do {
+            batch = claimBatch();
+            if (!batch.isEmpty() && !send(batch)) {
+                return;
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "3600000", initialDelayString = "300000")
+    public void purgeSent() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        Integer removed = transactionTemplate.execute(status -> outboxEventRepository.deleteSentBefore(cutoff));
+        if (removed != null && removed > 0) {
+            log.info("Purged {} delivered outbox events", removed);
+        }
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> due = outboxEventRepository.lockDue(OutboxEvent.BOARD_COLLABORATOR_ADDED, now, batchSize);
+            LocalDateTime leaseExpiry = now.plusNanos(leaseMillis * 1_000_000);
+            for (OutboxEvent event : due) {
+                event.setStatus("SENDING");
+                event.setNextAttemptAt(leaseExpiry);
+            }
+            return outboxEventRepository.saveAll(due);
+        });
+    }
+
+    /** Returns false when the request to content-service itself failed. */
+    private boolean send(List<OutboxEvent> batch) {
+        List<CollaboratorAdditionRequest> additions = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            additions.add(new CollaboratorAdditionRequest(event.getIdempotencyKey(), event.getBoardId(), event.getUserId()));
+        }
+
+        BulkCollaboratorResponse response;
+        try {
+            response = contentServiceClient.addCollaborators(new BulkCollaboratorRequest(additions));
+        } catch (Exception e) {
+            log.warn("Delivering {} outbox events to content-service failed: {}", batch.size(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> retryAll(batch, e.getMessage()));
+            return false;
+        }
+        transactionTemplate.executeWithoutResult(status -> settle(batch, response));
+        return true;
+    }
+
+    private void settle(List<OutboxEvent> batch, BulkCollaboratorResponse response) {
+        Set<String> delivered = new HashSet<>(response.getApplied());
+        delivered.addAll(response.getDuplicates());
+
+        List<Long> sentIds = new ArrayList<>();
+        List<OutboxEvent> retried = new ArrayList<>();
+        for (OutboxEvent event : batch) {
+            String key = event.getIdempotencyKey();
+            if (delivered.contains(key)) {
+                sentIds.add(event.getId());
+            } else if (response.getRejected().containsKey(key)) {
+                event.setStatus("FAILED");
+                event.setLastError(truncate(response.getRejected().get(key)));
+                retried.add(event);
+                log.warn("Outbox event {} rejected by content-service: {}", event.getId(), event.getLastError());
+            } else {
+                scheduleRetry(event, "Missing from content-service response");
+                retried.add(event);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.markSent(sentIds, LocalDateTime.now());
+        }
+        outboxEventRepository.saveAll(retried);
+    }
+
+    private void retryAll(List<OutboxEvent> batch, String error) {
+        for (OutboxEvent event : batch) {
+            scheduleRetry(event, error);
+        }
+        outboxEventRepository.saveAll(batch);
+    }
+
+    private void scheduleRetry(OutboxEvent event, String error) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(error));
+        if (attempts >= MAX_ATTEMPTS) {
+            event.setStatus("FAILED");
+            log.error("Outbox event {} failed after {} attempts: {}", event.getId(), attempts, event.getLastError());
+            return;
+        }
+        long backoff = Math.min(MAX_BACKOFF_MS, INITIAL_BACKOFF_MS << (attempts - 1));
+        event.setStatus("PENDING");
+        event.setNextAttemptAt(LocalDateTime.now().plusNanos(backoff * 1_000_000));
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
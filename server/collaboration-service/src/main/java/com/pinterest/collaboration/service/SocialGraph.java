@@ -0,0 +1,328 @@
+package com.pinterest.collaboration.service;
+
+import com.pinterest.collaboration.repository.ConnectionRepository;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory follow graph. Every user has id-sorted {@code long[]} adjacency arrays in both
+ * directions, so membership checks are binary searches and mutual follows are linear merges.
+ * Local follows and unfollows are applied as they commit. A periodic reload from the
+ * connections table picks up changes made through other instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SocialGraph {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int LOAD_BATCH_SIZE = 5000;
+    private static final int MAX_SUGGESTION_SOURCES = 500;
+    private static final int MAX_SECOND_DEGREE_PER_SOURCE = 1000;
+
+    private final ConnectionRepository connectionRepository;
+
+    private Map<Long, long[]> following = new HashMap<>();
+    private Map<Long, long[]> followers = new HashMap<>();
+    private List<Edit> editsDuringReload;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    // The first load is a full edge scan, so it runs off the startup thread; callers read the
+    // database until isReady() turns true.
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        Thread loader = new Thread(() -> {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                log.warn("Initial social graph load failed, retrying on the next refresh: {}", e.getMessage());
+            }
+        }, "social-graph-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    @Scheduled(fixedDelayString = "${collaboration.graph.refresh-interval-ms:600000}",
+            initialDelayString = "${collaboration.graph.refresh-interval-ms:600000}")
+    public void reload() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            if (editsDuringReload != null) {
+                return;
+            }
+            editsDuringReload = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Map<Long, LongList> out = new HashMap<>();
+            Map<Long, LongList> in = new HashMap<>();
+            long afterId = 0L;
+            long edges = 0;
+            List<Object[]> rows;
+            do {
+                rows = connectionRepository.findEdgesAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    Long followerId = (Long) row[1];
+                    Long followingId = (Long) row[2];
+                    out.computeIfAbsent(followerId, id -> new LongList()).add(followingId);
+                    in.computeIfAbsent(followingId, id -> new LongList()).add(followerId);
+                    afterId = (Long) row[0];
+                }
+                edges += rows.size();
+            } while (rows.size() == LOAD_BATCH_SIZE);
+
+            Map<Long, long[]> loadedFollowing = freeze(out);
+            Map<Long, long[]> loadedFollowers = freeze(in);
+
+            lock.writeLock().lock();
+            try {
+                following = loadedFollowing;
+                followers = loadedFollowers;
+                // Edits are idempotent, so replaying ones the snapshot already saw is harmless.
+                for (Edit edit : editsDuringReload) {
+                    apply(edit);
+                }
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Social graph loaded: {} follows across {} users in {} ms",
+                    edges, loadedFollowing.size(), System.currentTimeMillis() - started);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                editsDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void follow(Long followerId, Long followingId) {
+        record(new Edit(followerId, followingId, true));
+    }
+
+    public void unfollow(Long followerId, Long followingId) {
+        record(new Edit(followerId, followingId, false));
+    }
+
+    public boolean isFollowing(Long followerId, Long followingId) {
+        lock.readLock().lock();
+        try {
+            return Arrays.binarySearch(following.getOrDefault(followerId, EMPTY), followingId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int followerCount(Long userId) {
+        lock.readLock().lock();
+        try {
+            return followers.getOrDefault(userId, EMPTY).length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int followingCount(Long userId) {
+        lock.readLock().lock();
+        try {
+            return following.getOrDefault(userId, EMPTY).length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Users that {@code userId} follows and who follow back, in id order.
+     */
+    public List<Long> mutualFollows(Long userId, int limit) {
+        lock.readLock().lock();
+        try {
+            long[] out = following.getOrDefault(userId, EMPTY);
+            long[] in = followers.getOrDefault(userId, EMPTY);
+            List<Long> mutual = new ArrayList<>();
+            int i = 0;
+            int j = 0;
+            while (i < out.length && j < in.length && mutual.size() < limit) {
+                if (out[i] == in[j]) {
+                    mutual.add(out[i]);
+                    i++;
+                    j++;
+                } else if (out[i] < in[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return mutual;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Friends-of-friends the user does not follow yet, ranked by how many of the people they
+     * follow already follow them. For users who follow many accounts, the sources are sampled
+     * evenly so the cost stays bounded. Returns candidate id mapped to the number of shared
+     * connections, best first.
+     */
+    public Map<Long, Integer> suggestions(Long userId, int limit) {
+        Map<Long, int[]> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            long[] mine = following.getOrDefault(userId, EMPTY);
+            int stride = Math.max(1, mine.length / MAX_SUGGESTION_SOURCES);
+            for (int i = 0; i < mine.length; i += stride) {
+                long[] theirs = following.getOrDefault(mine[i], EMPTY);
+                int scan = Math.min(theirs.length, MAX_SECOND_DEGREE_PER_SOURCE);
+                for (int k = 0; k < scan; k++) {
+                    long candidate = theirs[k];
+                    if (candidate == userId || Arrays.binarySearch(mine, candidate) >= 0) {
+                        continue;
+                    }
+                    scores.computeIfAbsent(candidate, id -> new int[1])[0]++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Map.Entry<Long, int[]>> byScore = (a, b) -> a.getValue()[0] != b.getValue()[0]
+                ? Integer.compare(a.getValue()[0], b.getValue()[0])
+                : Long.compare(b.getKey(), a.getKey());
+        PriorityQueue<Map.Entry<Long, int[]>> top = new PriorityQueue<>(byScore);
+        for (Map.Entry<Long, int[]> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Map.Entry<Long, int[]>> ranked = new ArrayList<>(top);
+        ranked.sort(byScore.reversed());
+
+        Map<Long, Integer> result = new LinkedHashMap<>();
+        for (Map.Entry<Long, int[]> entry : ranked) {
+            result.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return result;
+    }
+
+    private void record(Edit edit) {
+        lock.writeLock().lock();
+        try {
+            apply(edit);
+            if (editsDuringReload != null) {
+                editsDuringReload.add(edit);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Edit edit) {
+        if (edit.added) {
+            insert(following, edit.followerId, edit.followingId);
+            insert(followers, edit.followingId, edit.followerId);
+        } else {
+            delete(following, edit.followerId, edit.followingId);
+            delete(followers, edit.followingId, edit.followerId);
+        }
+    }
+
+    private static void insert(Map<Long, long[]> adjacency, Long owner, long value) {
+        long[] current = adjacency.getOrDefault(owner, EMPTY);
+        int index = Arrays.binarySearch(current, value);
+        if (index >= 0) {
+            return;
+        }
+        int position = -index - 1;
+        long[] updated = new long[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, position);
+        updated[position] = value;
+        System.arraycopy(current, position, updated, position + 1, current.length - position);
+        adjacency.put(owner, updated);
+    }
+
+    private static void delete(Map<Long, long[]> adjacency, Long owner, long value) {
+        long[] current = adjacency.get(owner);
+        if (current == null) {
+            return;
+        }
+        int index = Arrays.binarySearch(current, value);
+        if (index < 0) {
+            return;
+        }
+        if (current.length == 1) {
+            adjacency.remove(owner);
+            return;
+        }
+        long[] updated = new long[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        adjacency.put(owner, updated);
+    }
+
+    private static Map<Long, long[]> freeze(Map<Long, LongList> lists) {
+        Map<Long, long[]> frozen = new HashMap<>(Math.max(16, lists.size() * 4 / 3 + 1));
+        for (Map.Entry<Long, LongList> entry : lists.entrySet()) {
+            frozen.put(entry.getKey(), entry.getValue().toSortedDistinctArray());
+        }
+        return frozen;
+    }
+
+    @AllArgsConstructor
+    private static class Edit {
+        private final long followerId;
+        private final long followingId;
+        private final boolean added;
+    }
+
+    private static class LongList {
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedDistinctArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
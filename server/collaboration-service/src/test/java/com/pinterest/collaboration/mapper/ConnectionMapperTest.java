@@ -0,0 +1,35 @@
+package com.pinterest.collaboration.mapper;
+
+import com.pinterest.collaboration.dto.ConnectionResponse;
+import com.pinterest.collaboration.entity.Connection;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Checks the generated connection mapper against the default ModelMapper configuration it replaced. */
+class ConnectionMapperTest {
+
+    private final ConnectionMapper connectionMapper = new ConnectionMapperImpl();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void toResponseMatchesModelMapper() {
+        Connection connection = new Connection(1L, 2L, 3L, LocalDateTime.of(2024, 1, 1, 12, 0));
+
+        assertThat(connectionMapper.toResponse(connection)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(connection, ConnectionResponse.class));
+    }
+
+    @Test
+    void toResponseMatchesModelMapperWithNullCreatedAt() {
+        Connection connection = new Connection(1L, 2L, 3L, null);
+
+        ConnectionResponse response = connectionMapper.toResponse(connection);
+
+        assertThat(response).usingRecursiveComparison().isEqualTo(modelMapper.map(connection, ConnectionResponse.class));
+        assertThat(response.getCreatedAt()).isNull();
+    }
+}
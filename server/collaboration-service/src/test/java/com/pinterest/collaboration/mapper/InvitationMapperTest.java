@@ -0,0 +1,36 @@
+package com.pinterest.collaboration.mapper;
+
+import com.pinterest.collaboration.dto.InvitationResponse;
+import com.pinterest.collaboration.entity.Invitation;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Checks the generated invitation mapper against the default ModelMapper configuration it replaced. */
+class InvitationMapperTest {
+
+    private final InvitationMapper invitationMapper = new InvitationMapperImpl();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void toResponseMatchesModelMapper() {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Invitation invitation = new Invitation(1L, 4L, 2L, 3L, "BOARD", "ACCEPTED", created, created.plusDays(1));
+
+        assertThat(invitationMapper.toResponse(invitation)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(invitation, InvitationResponse.class));
+    }
+
+    @Test
+    void toResponseMatchesModelMapperForFollowInvitationWithoutBoard() {
+        Invitation invitation = new Invitation(1L, null, 2L, 3L, "FOLLOW", "PENDING", null, null);
+
+        InvitationResponse response = invitationMapper.toResponse(invitation);
+
+        assertThat(response).usingRecursiveComparison().isEqualTo(modelMapper.map(invitation, InvitationResponse.class));
+        assertThat(response.getBoardId()).isNull();
+    }
+}
@@ -0,0 +1,66 @@
+package com.pinterest.collaboration.util;
+
+import com.pinterest.collaboration.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_789);
+
+    @Test
+    void roundTripsPosition() {
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(CREATED_AT, 77L).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(decoded.getId()).isEqualTo(77L);
+    }
+
+    @Test
+    void encodesUrlSafeTokens() {
+        String token = new KeysetCursor(LocalDateTime.of(2099, 12, 31, 23, 59, 59, 999_999_999), Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        assertInvalid(token(2, 1_700_000_000L, 0));
+    }
+
+    @Test
+    void rejectsOutOfRangeNanos() {
+        assertInvalid(token(1, 1_700_000_000L, 1_000_000_000));
+        assertInvalid(token(1, 1_700_000_000L, -1));
+    }
+
+    @Test
+    void rejectsTruncatedAndMalformedTokens() {
+        String valid = new KeysetCursor(CREATED_AT, 5L).encode();
+
+        assertInvalid(valid.substring(0, valid.length() - 4));
+        assertInvalid("");
+        assertInvalid("not a cursor!");
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> KeysetCursor.decode(token))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static String token(int version, long epochSecond, int nanos) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 + 4 + 8);
+        buffer.put((byte) version);
+        buffer.putLong(epochSecond);
+        buffer.putInt(nanos);
+        buffer.putLong(5L);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
@@ -0,0 +1,14 @@
+package com.pinterest.content.client;
+
+import com.pinterest.content.dto.UserSummaryResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+@FeignClient(name = "user-authentication-service")
+public interface AuthServiceClient {
+    @PostMapping("/api/auth/users/summaries")
+    List<UserSummaryResponse> getUserSummaries(@RequestBody List<Long> userIds);
+}
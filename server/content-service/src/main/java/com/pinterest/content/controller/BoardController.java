@@ -2,6 +2,8 @@ package com.pinterest.content.controller;
 
 import com.pinterest.content.dto.BoardRequest;
 import com.pinterest.content.dto.BoardResponse;
+import com.pinterest.content.dto.BulkCollaboratorRequest;
+import com.pinterest.content.dto.BulkCollaboratorResponse;
 import com.pinterest.content.service.BoardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -79,6 +81,22 @@ public class BoardController {
         return ResponseEntity.ok().build();
     }
 
+    @DeleteMapping("/{boardId}/pins/{pinId}")
+    @Operation(summary = "Remove pin from board")
+    public ResponseEntity<Void> removePinFromBoard(
+            @PathVariable("boardId") Long boardId,
+            @PathVariable("pinId") Long pinId) {
+        boardService.removePinFromBoard(boardId, pinId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/collaborators/bulk")
+    @Operation(summary = "Add collaborators to boards in one idempotent batch")
+    public ResponseEntity<BulkCollaboratorResponse> addCollaborators(@Valid @RequestBody BulkCollaboratorRequest request) {
+        BulkCollaboratorResponse response = boardService.addCollaborators(request);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/{boardId}/collaborators/{userId}")
     public ResponseEntity<Void> addCollaborator(@PathVariable("boardId") Long boardId,
             @PathVariable("userId") Long userId) {
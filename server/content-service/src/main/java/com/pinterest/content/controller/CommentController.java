@@ -1,5 +1,7 @@
 package com.pinterest.content.controller;
 
+import com.pinterest.content.dto.CommentFeedResponse;
+import com.pinterest.content.dto.CommentPageResponse;
 import com.pinterest.content.entity.Comment;
 import com.pinterest.content.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,6 +38,26 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    @GetMapping("/pin/{pinId}/page")
+    @Operation(summary = "Get a page of comments on a pin, newest first")
+    public ResponseEntity<CommentPageResponse> getCommentsPage(
+            @PathVariable("pinId") Long pinId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        CommentPageResponse response = commentService.getCommentsPage(pinId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/pin/{pinId}/feed")
+    @Operation(summary = "Get a page of comments on a pin with author names and avatar thumbnails")
+    public ResponseEntity<CommentFeedResponse> getCommentFeed(
+            @PathVariable("pinId") Long pinId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        CommentFeedResponse response = commentService.getCommentFeed(pinId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @Data
     public static class CommentRequest {
         private String text;
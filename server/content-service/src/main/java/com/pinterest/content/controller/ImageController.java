@@ -0,0 +1,75 @@
+package com.pinterest.content.controller;
+
+import com.pinterest.content.service.ImageStorageService;
+import com.pinterest.content.service.ImageStorageService.StoredImage;
+import com.pinterest.content.util.ETags;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/content/images")
+@RequiredArgsConstructor
+@Tag(name = "Image Storage", description = "APIs for serving stored pin images")
+public class ImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ImageStorageService imageStorageService;
+
+    @GetMapping("/{hash}")
+    @Operation(summary = "Get stored image by content hash")
+    public void getImage(@PathVariable("hash") String hash,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Optional<StoredImage> stored = imageStorageService.find(hash);
+        if (stored.isEmpty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        StoredImage image = stored.get();
+
+        String etag = "\"" + image.getHash() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        if (ETags.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setContentType(image.getContentType());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setContentLengthLong(image.getSize());
+
+        // Let Tomcat hand the file to the socket with sendfile when the connector supports it.
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, image.getPath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, image.getSize());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(image.getPath())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < image.getSize()) {
+                position += channel.transferTo(position, image.getSize() - position, out);
+            }
+        }
+    }
+}
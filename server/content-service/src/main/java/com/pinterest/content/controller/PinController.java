@@ -1,15 +1,24 @@
 package com.pinterest.content.controller;
 
+import com.pinterest.content.dto.EncodedPinResponse;
+import com.pinterest.content.dto.PinFeedResponse;
+import com.pinterest.content.dto.PinImportJobResponse;
 import com.pinterest.content.dto.PinRequest;
 import com.pinterest.content.dto.PinResponse;
+import com.pinterest.content.service.PinImportService;
 import com.pinterest.content.service.PinService;
+import com.pinterest.content.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -20,6 +29,10 @@ import java.util.List;
 public class PinController {
 
     private final PinService pinService;
+    private final PinImportService pinImportService;
+
+    // Clients may keep pin details but must revalidate, which costs a 304 when nothing changed.
+    private static final CacheControl PIN_CACHE = CacheControl.noCache();
 
     @PostMapping
     @Operation(summary = "Create a new pin")
@@ -30,13 +43,38 @@ public class PinController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    @GetMapping("/{pinId}")
-    @Operation(summary = "Get pin by ID")
-    public ResponseEntity<PinResponse> getPinById(@PathVariable("pinId") Long pinId) {
-        PinResponse response = pinService.getPinById(pinId);
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Start a bulk pin import from a CSV or JSON-lines file")
+    public ResponseEntity<PinImportJobResponse> importPins(
+            @RequestParam("file") MultipartFile file,
+            @RequestHeader("X-User-Id") Long userId) {
+        PinImportJobResponse response = pinImportService.startImport(file, userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "Get progress and throughput of a bulk pin import")
+    public ResponseEntity<PinImportJobResponse> getImportJob(@PathVariable("jobId") String jobId) {
+        PinImportJobResponse response = pinImportService.getJob(jobId);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/{pinId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get pin by ID")
+    public ResponseEntity<byte[]> getPinById(
+            @PathVariable("pinId") Long pinId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        EncodedPinResponse response = pinService.getEncodedPin(pinId);
+        if (ETags.matches(ifNoneMatch, response.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(response.getETag()).cacheControl(PIN_CACHE).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(response.getETag())
+                .cacheControl(PIN_CACHE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.getJson());
+    }
+
     @GetMapping("/user/{userId}")
     @Operation(summary = "Get all pins by user")
     public ResponseEntity<List<PinResponse>> getUserPins(@PathVariable("userId") Long userId) {
@@ -58,6 +96,15 @@ public class PinController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/public/feed")
+    @Operation(summary = "Get a page of the public pin feed")
+    public ResponseEntity<PinFeedResponse> getPublicFeed(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "30") int size) {
+        PinFeedResponse response = pinService.getPublicFeed(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/sponsored")
     @Operation(summary = "Get all sponsored pins")
     public ResponseEntity<List<PinResponse>> getSponsoredPins() {
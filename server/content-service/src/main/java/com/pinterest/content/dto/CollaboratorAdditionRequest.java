@@ -0,0 +1,23 @@
+package com.pinterest.content.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollaboratorAdditionRequest {
+    @NotBlank
+    @Size(max = 100)
+    private String idempotencyKey;
+
+    @NotNull
+    private Long boardId;
+
+    @NotNull
+    private Long userId;
+}
@@ -0,0 +1,19 @@
+package com.pinterest.content.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentFeedItem {
+    private Long id;
+    private Long pinId;
+    private Long userId;
+    private String text;
+    private LocalDateTime createdAt;
+    private UserSummaryResponse author;
+}
@@ -0,0 +1,16 @@
+package com.pinterest.content.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentFeedResponse {
+    private List<CommentFeedItem> comments;
+    private String nextCursor;
+    private Boolean hasMore;
+}
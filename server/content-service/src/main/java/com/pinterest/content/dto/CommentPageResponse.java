@@ -0,0 +1,17 @@
+package com.pinterest.content.dto;
+
+import com.pinterest.content.entity.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPageResponse {
+    private List<Comment> comments;
+    private String nextCursor;
+    private Boolean hasMore;
+}
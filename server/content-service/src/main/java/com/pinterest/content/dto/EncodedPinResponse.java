@@ -0,0 +1,11 @@
+package com.pinterest.content.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EncodedPinResponse {
+    private final byte[] json;
+    private final String eTag;
+}
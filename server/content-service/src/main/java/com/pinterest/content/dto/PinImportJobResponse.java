@@ -0,0 +1,24 @@
+package com.pinterest.content.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PinImportJobResponse {
+    private String jobId;
+    private String status;
+    private String fileName;
+    private Long rowsRead;
+    private Long rowsImported;
+    private Long rowsRejected;
+    private Double rowsPerSecond;
+    private List<String> errors;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
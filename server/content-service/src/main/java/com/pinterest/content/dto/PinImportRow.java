@@ -0,0 +1,33 @@
+package com.pinterest.content.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PinImportRow {
+    @NotBlank(message = "title is required")
+    @Size(max = 255, message = "title is longer than 255 characters")
+    private String title;
+
+    @Size(max = 2000, message = "description is longer than 2000 characters")
+    private String description;
+
+    @NotBlank(message = "imageUrl is required")
+    private String imageUrl;
+
+    @Size(max = 500, message = "link is longer than 500 characters")
+    private String link;
+
+    private Long boardId;
+
+    private Boolean isPublic;
+
+    private List<String> keywords;
+}
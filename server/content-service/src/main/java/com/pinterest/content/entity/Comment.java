@@ -8,7 +8,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_pin_created", columnList = "pin_id, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -12,14 +12,21 @@ import java.util.Set;
 import lombok.EqualsAndHashCode;
 
 @Entity
-@Table(name = "pins")
+@Table(name = "pins", indexes = {
+        @Index(name = "idx_pins_public_feed", columnList = "is_public, is_draft, is_sponsored, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Pin {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Ids are handed out in pooled blocks rather than by AUTO_INCREMENT, so Hibernate can batch pin inserts.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pin_ids")
+    @TableGenerator(name = "pin_ids", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "pins", allocationSize = Pin.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
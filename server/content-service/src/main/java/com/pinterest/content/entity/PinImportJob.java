@@ -0,0 +1,73 @@
+package com.pinterest.content.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "pin_import_jobs", indexes = {
+        @Index(name = "idx_pin_import_jobs_status_heartbeat", columnList = "status, heartbeat_at"),
+        @Index(name = "idx_pin_import_jobs_finished", columnList = "finished_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PinImportJob implements Persistable<String> {
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "rows_read", nullable = false)
+    private Long rowsRead = 0L;
+
+    @Column(name = "rows_imported", nullable = false)
+    private Long rowsImported = 0L;
+
+    @Column(name = "rows_rejected", nullable = false)
+    private Long rowsRejected = 0L;
+
+    // One reported error per line; not a @Lob so the abandoned-job UPDATE can CONCAT onto it.
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String errors;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // Refreshed by the instance running the job; a stale heartbeat means that instance went away.
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    // Ids are assigned, so without this save() would issue a SELECT before the insert.
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        persisted = true;
+    }
+}
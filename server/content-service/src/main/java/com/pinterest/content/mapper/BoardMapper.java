@@ -0,0 +1,24 @@
+package com.pinterest.content.mapper;
+
+import com.pinterest.content.dto.BoardRequest;
+import com.pinterest.content.dto.BoardResponse;
+import com.pinterest.content.entity.Board;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface BoardMapper {
+
+    // Pins are hydrated in bulk by BoardService; mapping them here would lazily load each board's pins.
+    @Mapping(target = "pins", ignore = true)
+    @Mapping(target = "pinCount", ignore = true)
+    BoardResponse toResponse(Board board);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "userId", ignore = true)
+    @Mapping(target = "pins", ignore = true)
+    @Mapping(target = "collaboratorIds", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Board toEntity(BoardRequest request);
+}
@@ -0,0 +1,36 @@
+package com.pinterest.content.mapper;
+
+import com.pinterest.content.dto.PinRequest;
+import com.pinterest.content.dto.PinResponse;
+import com.pinterest.content.entity.Pin;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface PinMapper {
+
+    @Mapping(target = "keywords", source = "keywords", qualifiedByName = "splitKeywords")
+    PinResponse toResponse(Pin pin);
+
+    // Keywords, ownership and counters are set by PinService rather than taken from the request.
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "userId", ignore = true)
+    @Mapping(target = "keywords", ignore = true)
+    @Mapping(target = "boards", ignore = true)
+    @Mapping(target = "savesCount", ignore = true)
+    @Mapping(target = "commentsCount", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Pin toEntity(PinRequest request);
+
+    @Named("splitKeywords")
+    default List<String> splitKeywords(String keywords) {
+        if (keywords == null || keywords.isEmpty()) {
+            return List.of();
+        }
+        return List.of(keywords.split(","));
+    }
+}
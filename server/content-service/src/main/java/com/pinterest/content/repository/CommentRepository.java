@@ -1,12 +1,25 @@
 package com.pinterest.content.repository;
 
 import com.pinterest.content.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByPinId(Long pinId);
+
+    @Query("SELECT c FROM Comment c WHERE c.pinId = :pinId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findPinPage(@Param("pinId") Long pinId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c WHERE c.pinId = :pinId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findPinPageAfter(@Param("pinId") Long pinId, @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,38 @@
+package com.pinterest.content.repository;
+
+import com.pinterest.content.entity.PinImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface PinImportJobRepository extends JpaRepository<PinImportJob, String> {
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE PinImportJob j SET j.status = :status, j.rowsRead = :rowsRead, j.rowsImported = :rowsImported, " +
+            "j.rowsRejected = :rowsRejected, j.errors = :errors, j.startedAt = :startedAt, " +
+            "j.finishedAt = :finishedAt, j.heartbeatAt = :heartbeatAt WHERE j.id = :id")
+    int updateProgress(@Param("id") String id, @Param("status") String status, @Param("rowsRead") long rowsRead,
+            @Param("rowsImported") long rowsImported, @Param("rowsRejected") long rowsRejected,
+            @Param("errors") String errors, @Param("startedAt") LocalDateTime startedAt,
+            @Param("finishedAt") LocalDateTime finishedAt, @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE PinImportJob j SET j.status = 'FAILED', j.finishedAt = :now, " +
+            "j.errors = CONCAT(COALESCE(j.errors, ''), :reason) " +
+            "WHERE j.status IN ('QUEUED', 'RUNNING') AND j.heartbeatAt < :cutoff")
+    int failAbandoned(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now,
+            @Param("reason") String reason);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PinImportJob j WHERE j.finishedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,11 +1,15 @@
 package com.pinterest.content.repository;
 
 import com.pinterest.content.entity.Pin;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,6 +25,15 @@ public interface PinRepository extends JpaRepository<Pin, Long> {
     @Query("SELECT p FROM Pin p WHERE p.isPublic = true AND p.isDraft = false AND p.isSponsored = false AND p.parentPinId IS NULL")
     List<Pin> findByIsPublicTrueAndIsDraftFalse();
 
+    @Query("SELECT p FROM Pin p WHERE p.isPublic = true AND p.isDraft = false AND p.isSponsored = false AND p.parentPinId IS NULL " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Pin> findPublicFeed(Pageable pageable);
+
+    @Query("SELECT p FROM Pin p WHERE p.isPublic = true AND p.isDraft = false AND p.isSponsored = false AND p.parentPinId IS NULL " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Pin> findPublicFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     List<Pin> findByIsSponsoredTrue();
 
     @Query("SELECT DISTINCT p FROM Pin p WHERE p.isPublic = true AND p.isDraft = false AND p.isSponsored = false AND " +
@@ -28,4 +41,36 @@ public interface PinRepository extends JpaRepository<Pin, Long> {
     List<Pin> searchPins(@Param("keyword") String keyword);
 
     List<Pin> findByBoardsId(Long boardId);
+
+    @Query("SELECT p.id, p.imageUrl FROM Pin p WHERE p.id > :afterId AND p.imageUrl LIKE 'data:%' ORDER BY p.id")
+    List<Object[]> findInlineImages(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Pin p SET p.imageUrl = :imageUrl WHERE p.id = :id")
+    int updateImageUrl(@Param("id") Long id, @Param("imageUrl") String imageUrl);
+
+    @Query("SELECT p.id, p.title, p.description, p.keywords FROM Pin p " +
+            "WHERE p.id > :afterId AND p.isPublic = true AND p.isDraft = false AND p.isSponsored = false ORDER BY p.id")
+    List<Object[]> findSearchableText(@Param("afterId") Long afterId, Pageable pageable);
+
+    List<Pin> findByBoardIdIn(Collection<Long> boardIds);
+
+    @Query("SELECT b.id, p FROM Pin p JOIN p.boards b WHERE b.id IN :boardIds")
+    List<Object[]> findPinsByJoinedBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
+    // updatedAt is assigned to itself so the ON UPDATE CURRENT_TIMESTAMP column keeps the last content edit.
+    @Modifying
+    @Query("UPDATE Pin p SET p.commentsCount = COALESCE(p.commentsCount, 0) + :comments, " +
+            "p.savesCount = COALESCE(p.savesCount, 0) + :saves, p.updatedAt = p.updatedAt WHERE p.id = :id")
+    int addToCounters(@Param("id") Long id, @Param("comments") int comments, @Param("saves") int saves);
+
+    boolean existsByCommentsCountGreaterThanOrSavesCountGreaterThan(Integer comments, Integer saves);
+
+    @Modifying
+    @Query(value = "UPDATE pins p SET " +
+            "comments_count = (SELECT COUNT(*) FROM comments c WHERE c.pin_id = p.id), " +
+            "saves_count = (SELECT COUNT(*) FROM boards_pins bp WHERE bp.pin_id = p.id), " +
+            "updated_at = updated_at",
+            nativeQuery = true)
+    int recountAll();
 }
@@ -2,20 +2,35 @@ package com.pinterest.content.service;
 
 import com.pinterest.content.dto.BoardRequest;
 import com.pinterest.content.dto.BoardResponse;
+import com.pinterest.content.dto.BulkCollaboratorRequest;
+import com.pinterest.content.dto.BulkCollaboratorResponse;
+import com.pinterest.content.dto.CollaboratorAdditionRequest;
 import com.pinterest.content.dto.PinResponse;
 import com.pinterest.content.entity.Board;
+import com.pinterest.content.entity.IdempotencyKey;
 import com.pinterest.content.entity.Pin;
 import com.pinterest.content.exception.CustomException;
+import com.pinterest.content.mapper.BoardMapper;
+import com.pinterest.content.mapper.PinMapper;
 import com.pinterest.content.repository.BoardRepository;
+import com.pinterest.content.repository.IdempotencyKeyRepository;
 import com.pinterest.content.repository.PinRepository;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,15 +40,21 @@ public class BoardService {
 
     private final BoardRepository boardRepository;
     private final PinRepository pinRepository;
-    private final ModelMapper modelMapper;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final BoardMapper boardMapper;
+    private final PinMapper pinMapper;
+    private final MeterRegistry meterRegistry;
+    private final PinCounterBuffer pinCounterBuffer;
+
+    private static final int HYDRATION_CHUNK_SIZE = 500;
 
     @CircuitBreaker(name = "contentCircuitBreaker", fallbackMethod = "createBoardFallback")
     @Transactional
     public BoardResponse createBoard(BoardRequest request, Long userId) {
-        Board board = modelMapper.map(request, Board.class);
+        Board board = boardMapper.toEntity(request);
         board.setUserId(userId);
         board = boardRepository.save(board);
-        return mapToBoardResponse(board);
+        return mapToBoardResponse(board, "createBoard");
     }
 
     public BoardResponse createBoardFallback(BoardRequest request, Long userId, Exception ex) {
@@ -45,23 +66,19 @@ public class BoardService {
     public BoardResponse getBoardById(Long boardId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new CustomException("Board not found"));
-        return mapToBoardResponse(board);
+        return mapToBoardResponse(board, "getBoardById");
     }
 
     @Transactional(readOnly = true)
     public List<BoardResponse> getUserBoards(Long userId) {
         List<Board> boards = boardRepository.findByUserIdOrCollaboratorIdsContaining(userId, userId);
-        return boards.stream()
-                .map(this::mapToBoardResponse)
-                .collect(Collectors.toList());
+        return mapToBoardResponses(boards, "getUserBoards");
     }
 
     @Transactional(readOnly = true)
     public List<BoardResponse> searchBoards(String keyword) {
         List<Board> boards = boardRepository.searchBoards(keyword);
-        return boards.stream()
-                .map(this::mapToBoardResponse)
-                .collect(Collectors.toList());
+        return mapToBoardResponses(boards, "searchBoards");
     }
 
     @Transactional
@@ -83,7 +100,7 @@ public class BoardService {
             board.setBoardType(request.getBoardType());
 
         board = boardRepository.save(board);
-        return mapToBoardResponse(board);
+        return mapToBoardResponse(board, "updateBoard");
     }
 
     @Transactional
@@ -95,6 +112,12 @@ public class BoardService {
             throw new CustomException("You don't have permission to delete this board");
         }
 
+        // Pin owns the boards_pins rows, so unlink from its side before the board goes.
+        for (Pin pin : board.getPins()) {
+            pin.getBoards().remove(board);
+            pinCounterBuffer.recordUnsave(pin.getId());
+        }
+        board.getPins().clear();
         boardRepository.delete(board);
     }
 
@@ -111,6 +134,22 @@ public class BoardService {
 
         pin.getBoards().add(board);
         pinRepository.save(pin);
+        pinCounterBuffer.recordSave(pinId);
+    }
+
+    @Transactional
+    public void removePinFromBoard(Long boardId, Long pinId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new CustomException("Board not found"));
+        Pin pin = pinRepository.findById(pinId)
+                .orElseThrow(() -> new CustomException("Pin not found"));
+
+        if (!pin.getBoards().remove(board)) {
+            throw new CustomException("Pin is not on this board");
+        }
+
+        pinRepository.save(pin);
+        pinCounterBuffer.recordUnsave(pinId);
     }
 
     @Transactional
@@ -122,23 +161,98 @@ public class BoardService {
         boardRepository.save(board);
     }
 
-    private BoardResponse mapToBoardResponse(Board board) {
-        BoardResponse response = modelMapper.map(board, BoardResponse.class);
+    /**
+     * Applies a batch of collaborator additions in one transaction. Keys that were already
+     * processed are reported as duplicates so senders can safely retry a whole batch.
+     */
+    @Transactional
+    public BulkCollaboratorResponse addCollaborators(BulkCollaboratorRequest request) {
+        BulkCollaboratorResponse response = new BulkCollaboratorResponse();
+        Map<String, CollaboratorAdditionRequest> additions = new LinkedHashMap<>();
+        for (CollaboratorAdditionRequest addition : request.getAdditions()) {
+            if (additions.putIfAbsent(addition.getIdempotencyKey(), addition) != null) {
+                response.getDuplicates().add(addition.getIdempotencyKey());
+            }
+        }
 
-        
-        List<Pin> pinsFromColumn = pinRepository.findByBoardId(board.getId());
-        List<Pin> pinsFromJoinTable = pinRepository.findByBoardsId(board.getId());
+        Set<String> processed = idempotencyKeyRepository.findAllById(additions.keySet()).stream()
+                .map(IdempotencyKey::getKey)
+                .collect(Collectors.toSet());
+        Set<Long> boardIds = additions.values().stream()
+                .filter(addition -> !processed.contains(addition.getIdempotencyKey()))
+                .map(CollaboratorAdditionRequest::getBoardId)
+                .collect(Collectors.toSet());
+        Map<Long, Board> boards = boardRepository.findAllById(boardIds).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
 
-        
-        java.util.Set<Pin> allPins = new java.util.HashSet<>();
-        allPins.addAll(pinsFromColumn);
-        allPins.addAll(pinsFromJoinTable);
+        List<IdempotencyKey> newKeys = new ArrayList<>();
+        Map<Long, Board> changed = new LinkedHashMap<>();
+        for (CollaboratorAdditionRequest addition : additions.values()) {
+            String key = addition.getIdempotencyKey();
+            if (processed.contains(key)) {
+                response.getDuplicates().add(key);
+                continue;
+            }
+            Board board = boards.get(addition.getBoardId());
+            if (board == null) {
+                response.getRejected().put(key, "Board not found");
+                continue;
+            }
+            board.getCollaboratorIds().add(addition.getUserId());
+            changed.put(board.getId(), board);
+            newKeys.add(new IdempotencyKey(key));
+            response.getApplied().add(key);
+        }
 
-        response.setPinCount(allPins.size());
-        List<PinResponse> pinResponses = allPins.stream()
-                .map(pin -> modelMapper.map(pin, PinResponse.class))
-                .collect(Collectors.toList());
-        response.setPins(pinResponses);
+        boardRepository.saveAll(changed.values());
+        idempotencyKeyRepository.saveAll(newKeys);
         return response;
     }
+
+    private BoardResponse mapToBoardResponse(Board board, String endpoint) {
+        return mapToBoardResponses(List.of(board), endpoint).get(0);
+    }
+
+    private List<BoardResponse> mapToBoardResponses(List<Board> boards, String endpoint) {
+        if (boards.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> boardIds = boards.stream()
+                .map(Board::getId)
+                .collect(Collectors.toList());
+
+        // Pins can be linked through the board_id column or the boards_pins join table,
+        // so both are loaded set-based for the whole page and merged per board here.
+        Map<Long, Set<Pin>> pinsByBoard = new HashMap<>();
+        int queries = 0;
+        for (int from = 0; from < boardIds.size(); from += HYDRATION_CHUNK_SIZE) {
+            List<Long> chunk = boardIds.subList(from, Math.min(from + HYDRATION_CHUNK_SIZE, boardIds.size()));
+
+            for (Pin pin : pinRepository.findByBoardIdIn(chunk)) {
+                pinsByBoard.computeIfAbsent(pin.getBoardId(), id -> new LinkedHashSet<>()).add(pin);
+            }
+            for (Object[] row : pinRepository.findPinsByJoinedBoardIds(chunk)) {
+                pinsByBoard.computeIfAbsent((Long) row[0], id -> new LinkedHashSet<>()).add((Pin) row[1]);
+            }
+            queries += 2;
+        }
+
+        meterRegistry.summary("content.boards.hydration.queries", "endpoint", endpoint).record(queries);
+        meterRegistry.summary("content.boards.hydration.boards", "endpoint", endpoint).record(boards.size());
+
+        List<BoardResponse> responses = new ArrayList<>(boards.size());
+        for (Board board : boards) {
+            BoardResponse response = boardMapper.toResponse(board);
+            Set<Pin> allPins = pinsByBoard.getOrDefault(board.getId(), Collections.emptySet());
+
+            response.setPinCount(allPins.size());
+            List<PinResponse> pinResponses = allPins.stream()
+                    .map(pinMapper::toResponse)
+                    .collect(Collectors.toList());
+            response.setPins(pinResponses);
+            responses.add(response);
+        }
+        return responses;
+    }
 }
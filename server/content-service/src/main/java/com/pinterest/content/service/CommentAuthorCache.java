@@ -0,0 +1,58 @@
+package com.pinterest.content.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pinterest.content.client.AuthServiceClient;
+import com.pinterest.content.dto.UserSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Local copy of the author display data shown next to comments. Misses for a whole page are
+ * fetched with one summaries call to the auth service. Renames and new avatars show up once the
+ * entry expires.
+ */
+@Component
+@Slf4j
+public class CommentAuthorCache {
+
+    private final AuthServiceClient authServiceClient;
+    private final Cache<Long, UserSummaryResponse> authors;
+
+    public CommentAuthorCache(AuthServiceClient authServiceClient,
+            @Value("${content.comment-authors.max-entries:50000}") long maxEntries,
+            @Value("${content.comment-authors.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.authServiceClient = authServiceClient;
+        this.authors = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, authors, "commentAuthors");
+    }
+
+    /**
+     * Returns the authors that could be resolved. When the auth service is unavailable only
+     * cached authors are returned, so comments still render without names rather than failing.
+     */
+    public Map<Long, UserSummaryResponse> getAuthors(Collection<Long> userIds) {
+        try {
+            return authors.getAll(userIds, misses -> authServiceClient.getUserSummaries(new ArrayList<>(misses)).stream()
+                    .collect(Collectors.toMap(UserSummaryResponse::getId, Function.identity(), (first, second) -> first)));
+        } catch (RuntimeException e) {
+            log.warn("Could not load {} comment authors: {}", userIds.size(), e.getMessage());
+            return authors.getAllPresent(userIds);
+        }
+    }
+}
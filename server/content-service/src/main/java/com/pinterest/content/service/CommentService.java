@@ -1,18 +1,32 @@
 package com.pinterest.content.service;
 
+import com.pinterest.content.dto.CommentFeedItem;
+import com.pinterest.content.dto.CommentFeedResponse;
+import com.pinterest.content.dto.CommentPageResponse;
+import com.pinterest.content.dto.UserSummaryResponse;
 import com.pinterest.content.entity.Comment;
 import com.pinterest.content.repository.CommentRepository;
+import com.pinterest.content.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
     private final CommentRepository commentRepository;
+    private final PinCounterBuffer pinCounterBuffer;
+    private final CommentAuthorCache commentAuthorCache;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Transactional
     public Comment createComment(String text, Long pinId, Long userId) {
@@ -20,11 +34,57 @@ public class CommentService {
         comment.setText(text);
         comment.setPinId(pinId);
         comment.setUserId(userId);
-        return commentRepository.save(comment);
+        comment = commentRepository.save(comment);
+        pinCounterBuffer.recordComment(pinId);
+        return comment;
     }
 
     @Transactional(readOnly = true)
     public List<Comment> getCommentsByPinId(Long pinId) {
         return commentRepository.findByPinId(pinId);
     }
+
+    /** Newest comments first, one keyset page at a time. */
+    @Transactional(readOnly = true)
+    public CommentPageResponse getCommentsPage(Long pinId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // One extra row tells whether another page exists without a count query.
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findPinPage(pinId, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            comments = commentRepository.findPinPageAfter(pinId, position.getCreatedAt(), position.getId(), limit);
+        }
+
+        boolean hasMore = comments.size() > pageSize;
+        if (hasMore) {
+            comments = comments.subList(0, pageSize);
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CommentPageResponse(comments, nextCursor, hasMore);
+    }
+
+    // Not transactional: the author lookup may call the auth service and must not hold a connection.
+    public CommentFeedResponse getCommentFeed(Long pinId, String cursor, int size) {
+        CommentPageResponse page = getCommentsPage(pinId, cursor, size);
+
+        Set<Long> authorIds = new LinkedHashSet<>();
+        for (Comment comment : page.getComments()) {
+            authorIds.add(comment.getUserId());
+        }
+        Map<Long, UserSummaryResponse> authors = commentAuthorCache.getAuthors(authorIds);
+
+        List<CommentFeedItem> items = new ArrayList<>(page.getComments().size());
+        for (Comment comment : page.getComments()) {
+            items.add(new CommentFeedItem(comment.getId(), comment.getPinId(), comment.getUserId(),
+                    comment.getText(), comment.getCreatedAt(), authors.get(comment.getUserId())));
+        }
+        return new CommentFeedResponse(items, page.getNextCursor(), page.getHasMore());
+    }
 }
@@ -0,0 +1,35 @@
+package com.pinterest.content.service;
+
+import com.pinterest.content.repository.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Drops idempotency keys once senders can no longer retry them. The retention must be longer
+ * than the longest retry window of any caller of the bulk endpoints.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyPurge {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Value("${content.idempotency.retention-hours:168}")
+    private long retentionHours;
+
+    @Scheduled(fixedDelayString = "${content.idempotency.purge-interval-ms:3600000}")
+    @Transactional
+    public void purge() {
+        int deleted = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.pinterest.content.service;
+
+import com.pinterest.content.repository.PinRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+
+import java.util.List;
+
+/**
+ * Converts pins that still carry inline base64 images into blob store references,
+ * one bounded batch per run so the migration never holds more than a batch of images in memory.
+ * Pins that fail are skipped for the rest of the pass and retried by a later pass, up to
+ * {@code max-passes}; the migration only counts as completed once no inline images remain.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageMigrationService {
+
+    private final PinRepository pinRepository;
+    private final ImageStorageService imageStorageService;
+    private final PinResponseCache pinResponseCache;
+
+    @Value("${content.images.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${content.images.migration.batch-size:50}")
+    private int batchSize;
+
+    @Value("${content.images.migration.max-passes:3}")
+    private int maxPasses;
+
+    private volatile long lastMigratedId = 0L;
+    private volatile int pass = 1;
+    private volatile boolean completed = false;
+    private volatile boolean abandoned = false;
+
+    @Scheduled(initialDelayString = "${content.images.migration.initial-delay-ms:30000}",
+            fixedDelayString = "${content.images.migration.interval-ms:5000}")
+    @Transactional
+    public void migrateNextBatch() {
+        if (!enabled || completed || abandoned) {
+            return;
+        }
+
+        List<Object[]> rows = pinRepository.findInlineImages(lastMigratedId, PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            finishPass();
+            return;
+        }
+
+        List<Long> migrated = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long pinId = (Long) row[0];
+            String imageUrl = (String) row[1];
+            try {
+                pinRepository.updateImageUrl(pinId, imageStorageService.storeIfInline(imageUrl));
+                migrated.add(pinId);
+            } catch (RuntimeException e) {
+                log.warn("Skipping image migration for pin {} in pass {}: {}", pinId, pass, e.getMessage());
+            }
+            lastMigratedId = pinId;
+        }
+        evictAfterCommit(migrated);
+        log.info("Migrated {} inline images to the blob store (last pin id {})", migrated.size(), lastMigratedId);
+    }
+
+    // Pins that failed are still inline, so whether anything remains is checked against the table
+    // rather than a count kept here, which a rolled-back batch would make wrong.
+    private void finishPass() {
+        boolean remaining = !pinRepository.findInlineImages(0L, PageRequest.of(0, 1)).isEmpty();
+        if (!remaining) {
+            completed = true;
+            log.info("Inline image migration finished");
+        } else if (pass >= maxPasses) {
+            abandoned = true;
+            log.error("Inline image migration stopped after {} passes with pins still holding inline images", pass);
+        } else {
+            log.warn("Inline image migration pass {} left pins with inline images; retrying them", pass);
+            pass++;
+            lastMigratedId = 0L;
+        }
+    }
+
+    // The rewritten URL keeps updated_at, so clients holding the inline version can keep it; only the server copy goes.
+    private void evictAfterCommit(List<Long> pinIds) {
+        if (pinIds.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            pinIds.forEach(pinResponseCache::invalidate);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pinIds.forEach(pinResponseCache::invalidate);
+            }
+        });
+    }
+}
@@ -0,0 +1,199 @@
+package com.pinterest.content.service;
+
+import com.pinterest.content.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+@Slf4j
+public class ImageStorageService {
+
+    public static final String IMAGE_PATH_PREFIX = "/api/content/images/";
+
+    private static final Pattern DATA_URL = Pattern.compile("^data:([\\w.+-]+/[\\w.+-]+)?((?:;[^;,]*)*?);base64,");
+    private static final Pattern HASH = Pattern.compile("^[0-9a-f]{64}$");
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    // Raster formats only; SVG and anything else a browser could execute is served as a download.
+    private static final Set<String> SAFE_CONTENT_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+
+    private final Path root;
+
+    public ImageStorageService(@Value("${content.images.storage-dir:./data/images}") String storageDir) {
+        this.root = Paths.get(storageDir).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create image storage directory " + root, e);
+        }
+    }
+
+    public boolean isInline(String imageUrl) {
+        return imageUrl != null && imageUrl.startsWith("data:");
+    }
+
+    /**
+     * Moves a base64 data URL into the blob store and returns its short reference.
+     * Any other value (an external URL or an existing reference) is returned unchanged.
+     */
+    public String storeIfInline(String imageUrl) {
+        DecodedImage image = decodeIfInline(imageUrl);
+        if (image == null) {
+            return imageUrl;
+        }
+        store(image);
+        return image.getReference();
+    }
+
+    /**
+     * Decodes a base64 data URL without writing it, so callers can store the image only once the
+     * row referencing it has been written. Returns null for any other value.
+     */
+    public DecodedImage decodeIfInline(String imageUrl) {
+        if (!isInline(imageUrl)) {
+            return null;
+        }
+        Matcher matcher = DATA_URL.matcher(imageUrl);
+        if (!matcher.find()) {
+            return null;
+        }
+        String contentType = safeContentType(matcher.group(1));
+
+        byte[] data;
+        try {
+            data = Base64.getMimeDecoder().decode(imageUrl.substring(matcher.end()));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("Invalid base64 image data");
+        }
+        return new DecodedImage(sha256(data), data, contentType);
+    }
+
+    public String store(byte[] data, String contentType) {
+        String hash = sha256(data);
+        store(new DecodedImage(hash, data, contentType));
+        return hash;
+    }
+
+    public void store(DecodedImage image) {
+        String hash = image.getHash();
+        Path target = blobPath(hash);
+        if (Files.exists(target)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            Files.writeString(typePath(hash), safeContentType(image.getContentType()), StandardCharsets.US_ASCII);
+
+            Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            try {
+                Files.write(temp, image.getData());
+                moveIntoPlace(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store image " + hash, e);
+        }
+    }
+
+    public Optional<StoredImage> find(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path blob = blobPath(hash);
+        try {
+            if (!Files.isRegularFile(blob)) {
+                return Optional.empty();
+            }
+            Path typeFile = typePath(hash);
+            String contentType = Files.exists(typeFile)
+                    ? safeContentType(Files.readString(typeFile, StandardCharsets.US_ASCII).trim())
+                    : DEFAULT_CONTENT_TYPE;
+            return Optional.of(new StoredImage(hash, blob, contentType, Files.size(blob)));
+        } catch (IOException e) {
+            log.warn("Failed to read stored image {}: {}", hash, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String safeContentType(String contentType) {
+        if (contentType == null) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+        String normalized = contentType.toLowerCase(Locale.ROOT);
+        return SAFE_CONTENT_TYPES.contains(normalized) ? normalized : DEFAULT_CONTENT_TYPE;
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, target);
+            } catch (FileAlreadyExistsException ignored) {
+                // Same content was stored concurrently.
+            }
+        } catch (FileAlreadyExistsException ignored) {
+            // Same content was stored concurrently.
+        }
+    }
+
+    private Path blobPath(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path typePath(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash + ".type");
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class DecodedImage {
+        private String hash;
+        private byte[] data;
+        private String contentType;
+
+        public String getReference() {
+            return IMAGE_PATH_PREFIX + hash;
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class StoredImage {
+        private String hash;
+        private Path path;
+        private String contentType;
+        private long size;
+    }
+}
@@ -0,0 +1,33 @@
+package com.pinterest.content.service;
+
+import com.pinterest.content.repository.PinRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Recounts comments and saves once for databases created before the counters were maintained.
+ * As soon as any pin has a non-zero counter the recount is skipped, and PinCounterBuffer keeps
+ * the counters current from then on.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PinCounterBackfill {
+
+    private final PinRepository pinRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (pinRepository.count() == 0
+                || pinRepository.existsByCommentsCountGreaterThanOrSavesCountGreaterThan(0, 0)) {
+            return;
+        }
+        int rows = pinRepository.recountAll();
+        log.info("Backfilled comment and save counts for {} pins", rows);
+    }
+}
@@ -0,0 +1,98 @@
+package com.pinterest.content.service;
+
+import com.pinterest.content.repository.PinRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accumulates comment and save increments per pin and applies them as one relative UPDATE per pin
+ * on a fixed delay. A viral pin then takes one row lock per flush instead of one per comment, and
+ * counts lag by at most the flush interval. Deltas that fail to flush are put back and retried.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PinCounterBuffer {
+
+    private final PinRepository pinRepository;
+    private final PinResponseCache pinResponseCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, Delta> pending = new ConcurrentHashMap<>();
+
+    // The record methods only count once the caller's transaction commits.
+    public void recordComment(Long pinId) {
+        addAfterCommit(pinId, new Delta(1, 0));
+    }
+
+    public void recordSave(Long pinId) {
+        addAfterCommit(pinId, new Delta(0, 1));
+    }
+
+    public void recordUnsave(Long pinId) {
+        addAfterCommit(pinId, new Delta(0, -1));
+    }
+
+    @Scheduled(fixedDelayString = "${content.counters.flush-interval-ms:2000}")
+    @PreDestroy
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Sorted so concurrent flushes from several instances lock rows in the same order.
+        Map<Long, Delta> batch = new TreeMap<>();
+        for (Long pinId : pending.keySet()) {
+            Delta delta = pending.remove(pinId);
+            if (delta != null) {
+                batch.put(pinId, delta);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach((pinId, delta) ->
+                    pinRepository.addToCounters(pinId, delta.comments, delta.saves)));
+        } catch (RuntimeException e) {
+            log.warn("Flushing counters for {} pins failed, will retry: {}", batch.size(), e.getMessage());
+            batch.forEach((pinId, delta) -> pending.merge(pinId, delta, Delta::plus));
+            return;
+        }
+        batch.keySet().forEach(pinResponseCache::invalidate);
+    }
+
+    private void addAfterCommit(Long pinId, Delta delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending.merge(pinId, delta, Delta::plus);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.merge(pinId, delta, Delta::plus);
+            }
+        });
+    }
+
+    private static final class Delta {
+        private final int comments;
+        private final int saves;
+
+        Delta(int comments, int saves) {
+            this.comments = comments;
+            this.saves = saves;
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(comments + other.comments, saves + other.saves);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.pinterest.content.service;
+
+import com.pinterest.content.entity.Pin;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the pooled pin id generator past every id already in the table. Pins created while ids
+ * came from AUTO_INCREMENT would otherwise collide with the first allocated block. Runs once all
+ * singletons exist, which is after Hibernate has created id_sequences and before the web server
+ * accepts requests.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PinIdSequenceSeed implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // The pooled optimizer hands out (stored value - allocation size, stored value], hence the extra block.
+        int updated = jdbcTemplate.update(
+                "INSERT INTO id_sequences (sequence_name, next_val) " +
+                        "SELECT 'pins', COALESCE(MAX(id), 0) + ? + 1 FROM pins " +
+                        "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))",
+                Pin.ID_ALLOCATION_SIZE);
+        log.debug("Pin id sequence seeded ({} rows affected)", updated);
+    }
+}
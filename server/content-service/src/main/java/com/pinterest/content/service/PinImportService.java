@@ -0,0 +1,537 @@
+package com.pinterest.content.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pinterest.content.dto.PinImportJobResponse;
+import com.pinterest.content.dto.PinImportRow;
+import com.pinterest.content.entity.Pin;
+import com.pinterest.content.entity.PinImportJob;
+import com.pinterest.content.exception.CustomException;
+import com.pinterest.content.repository.PinImportJobRepository;
+import com.pinterest.content.repository.PinRepository;
+import com.pinterest.content.service.ImageStorageService.DecodedImage;
+import com.pinterest.content.util.CsvReader;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk pin import from CSV or JSON-lines uploads. The upload is spooled to a temporary file and
+ * read back one row at a time on a background job, so memory use does not grow with file size.
+ * Valid rows are inserted in chunks inside one transaction each, which lets Hibernate send them as
+ * JDBC batches. A chunk that fails is retried row by row so one bad row only rejects itself.
+ * Inline images are written to the blob store inside the insert transaction, after the rows have
+ * been flushed, so rejected rows leave no blobs behind.
+ *
+ * <p>Job progress is kept in {@code pin_import_jobs} so any replica can report it. The instance
+ * running a job refreshes its heartbeat; a job whose heartbeat goes stale, because that instance
+ * stopped or restarted, is marked failed by whichever instance notices first.
+ */
+@Service
+@Slf4j
+public class PinImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String ABANDONED_ERROR = "Import stopped: the instance running it went away\n";
+
+    private final PinRepository pinRepository;
+    private final PinImportJobRepository jobRepository;
+    private final PinSearchIndex pinSearchIndex;
+    private final ImageStorageService imageStorageService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+    private final long maxChunkImageBytes;
+    private final Duration jobRetention;
+    private final Duration heartbeatTimeout;
+    private final ExecutorService executor;
+
+    // Jobs queued or running on this instance.
+    private final Map<String, Job> localJobs = new ConcurrentHashMap<>();
+
+    public PinImportService(PinRepository pinRepository, PinImportJobRepository jobRepository,
+            PinSearchIndex pinSearchIndex, ImageStorageService imageStorageService, ObjectMapper objectMapper,
+            Validator validator, TransactionTemplate transactionTemplate, EntityManager entityManager,
+            @Value("${content.pin-import.chunk-size:500}") int chunkSize,
+            @Value("${content.pin-import.max-chunk-image-bytes:33554432}") long maxChunkImageBytes,
+            @Value("${content.pin-import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${content.pin-import.job-retention-minutes:60}") long jobRetentionMinutes,
+            @Value("${content.pin-import.heartbeat-timeout-seconds:180}") long heartbeatTimeoutSeconds) {
+        this.pinRepository = pinRepository;
+        this.jobRepository = jobRepository;
+        this.pinSearchIndex = pinSearchIndex;
+        this.imageStorageService = imageStorageService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+        this.maxChunkImageBytes = maxChunkImageBytes;
+        this.jobRetention = Duration.ofMinutes(jobRetentionMinutes);
+        this.heartbeatTimeout = Duration.ofSeconds(heartbeatTimeoutSeconds);
+        this.executor = Executors.newFixedThreadPool(maxConcurrentJobs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public PinImportJobResponse startImport(MultipartFile file, Long userId) {
+        if (file == null || file.isEmpty()) {
+            throw new CustomException("Upload a non-empty .csv or .jsonl file");
+        }
+        boolean csv = isCsv(file);
+        if (!csv && !isJsonLines(file)) {
+            throw new CustomException("Unsupported import format, upload a .csv or .jsonl file");
+        }
+
+        Path upload;
+        try {
+            upload = Files.createTempFile("pin-import-", csv ? ".csv" : ".jsonl");
+            file.transferTo(upload);
+        } catch (IOException e) {
+            throw new CustomException("Could not store the upload: " + e.getMessage());
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), file.getOriginalFilename());
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jobRepository.save(new PinImportJob(job.id, userId, job.fileName, job.status, 0L, 0L, 0L, null,
+                    now, null, null, now, false));
+        } catch (RuntimeException e) {
+            deleteUpload(upload);
+            throw e;
+        }
+        localJobs.put(job.id, job);
+        executor.submit(() -> run(job, upload, csv, userId));
+        log.info("Queued pin import {} of {} for user {}", job.id, job.fileName, userId);
+        return job.toResponse();
+    }
+
+    public PinImportJobResponse getJob(String jobId) {
+        Job local = localJobs.get(jobId);
+        if (local != null) {
+            return local.toResponse();
+        }
+        return jobRepository.findById(jobId)
+                .map(PinImportService::toResponse)
+                .orElseThrow(() -> new CustomException("Import job not found"));
+    }
+
+    /** Refreshes the heartbeat of local jobs, fails jobs whose instance went away and drops old ones. */
+    @Scheduled(fixedDelayString = "${content.pin-import.heartbeat-interval-ms:30000}")
+    public void maintainJobs() {
+        localJobs.values().forEach(this::persist);
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int abandoned = jobRepository.failAbandoned(now.minus(heartbeatTimeout), now, ABANDONED_ERROR);
+            if (abandoned > 0) {
+                log.warn("Marked {} pin import jobs as failed after their instance stopped reporting", abandoned);
+            }
+            jobRepository.deleteFinishedBefore(now.minus(jobRetention));
+        } catch (RuntimeException e) {
+            log.warn("Pin import job maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private void run(Job job, Path upload, boolean csv, Long userId) {
+        job.start();
+        persist(job);
+        try (BufferedReader reader = Files.newBufferedReader(upload, StandardCharsets.UTF_8)) {
+            RowSource rows = csv ? new CsvRows(new CsvReader(reader)) : new JsonLines(reader);
+            List<Pin> chunk = new ArrayList<>(chunkSize);
+            List<Long> chunkLines = new ArrayList<>(chunkSize);
+            List<DecodedImage> chunkImages = new ArrayList<>(chunkSize);
+            long chunkImageBytes = 0;
+            PinImportRow row;
+            while ((row = nextRow(rows, job)) != RowSource.END) {
+                if (row == null) {
+                    continue;
+                }
+                Set<ConstraintViolation<PinImportRow>> violations = validator.validate(row);
+                if (!violations.isEmpty()) {
+                    job.reject(rows.line(), violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining(", ")));
+                    continue;
+                }
+                DecodedImage image;
+                try {
+                    image = imageStorageService.decodeIfInline(row.getImageUrl().trim());
+                    chunk.add(toPin(row, userId, image));
+                } catch (RuntimeException e) {
+                    job.reject(rows.line(), e.getMessage());
+                    continue;
+                }
+                chunkLines.add(rows.line());
+                chunkImages.add(image);
+                chunkImageBytes += image != null ? image.getData().length : 0;
+                // Decoded images are held until their chunk commits, so large ones end a chunk early.
+                if (chunk.size() == chunkSize || chunkImageBytes >= maxChunkImageBytes) {
+                    insert(job, chunk, chunkLines, chunkImages);
+                    chunk.clear();
+                    chunkLines.clear();
+                    chunkImages.clear();
+                    chunkImageBytes = 0;
+                    persist(job);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                insert(job, chunk, chunkLines, chunkImages);
+            }
+            job.finish("COMPLETED");
+        } catch (IOException | RuntimeException e) {
+            log.error("Pin import {} failed", job.id, e);
+            job.addError("Import stopped: " + e.getMessage());
+            job.finish("FAILED");
+        } finally {
+            deleteUpload(upload);
+            persist(job);
+            localJobs.remove(job.id);
+        }
+        log.info("Pin import {} {}: {} imported, {} rejected, {} rows/s", job.id, job.status,
+                job.imported.get(), job.rejected.get(), String.format(Locale.ROOT, "%.1f", job.rowsPerSecond()));
+    }
+
+    // Returns RowSource.END at end of input and null for a row that could not be parsed.
+    private PinImportRow nextRow(RowSource rows, Job job) throws IOException {
+        try {
+            PinImportRow row = rows.next();
+            if (row != RowSource.END) {
+                job.read.incrementAndGet();
+            }
+            return row;
+        } catch (RowFormatException e) {
+            job.read.incrementAndGet();
+            job.reject(rows.line(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void insert(Job job, List<Pin> chunk, List<Long> lines, List<DecodedImage> images) {
+        try {
+            saveAll(chunk, images);
+            job.imported.addAndGet(chunk.size());
+            chunk.forEach(pinSearchIndex::index);
+            return;
+        } catch (RuntimeException e) {
+            log.debug("Import chunk failed, retrying rows individually: {}", e.getMessage());
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            Pin pin = chunk.get(i);
+            pin.setId(null);
+            try {
+                saveAll(List.of(pin), Collections.singletonList(images.get(i)));
+                job.imported.incrementAndGet();
+                pinSearchIndex.index(pin);
+            } catch (RuntimeException e) {
+                job.reject(lines.get(i), "insert failed: " + rootMessage(e));
+            }
+        }
+    }
+
+    // A failed blob write rolls the rows back with it; a failed insert never reaches the blob store.
+    private void saveAll(List<Pin> pins, List<DecodedImage> images) {
+        transactionTemplate.executeWithoutResult(status -> {
+            pinRepository.saveAll(pins);
+            entityManager.flush();
+            for (DecodedImage image : images) {
+                if (image != null) {
+                    imageStorageService.store(image);
+                }
+            }
+            entityManager.clear();
+        });
+    }
+
+    private void persist(Job job) {
+        PinImportJobResponse snapshot = job.toResponse();
+        try {
+            jobRepository.updateProgress(job.id, snapshot.getStatus(), snapshot.getRowsRead(),
+                    snapshot.getRowsImported(), snapshot.getRowsRejected(), job.errorsText(),
+                    snapshot.getStartedAt(), snapshot.getFinishedAt(), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Could not record progress of pin import {}: {}", job.id, e.getMessage());
+        }
+    }
+
+    private static void deleteUpload(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            log.warn("Could not delete import upload {}: {}", upload, e.getMessage());
+        }
+    }
+
+    private static PinImportJobResponse toResponse(PinImportJob job) {
+        double rowsPerSecond = 0;
+        if (job.getStartedAt() != null) {
+            LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : job.getHeartbeatAt();
+            double seconds = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis()) / 1e3;
+            rowsPerSecond = Math.round(job.getRowsImported() / seconds * 10) / 10.0;
+        }
+        List<String> errors = job.getErrors() == null ? new ArrayList<>()
+                : Arrays.stream(job.getErrors().split("\n")).filter(e -> !e.isEmpty()).collect(Collectors.toList());
+        return new PinImportJobResponse(job.getId(), job.getStatus(), job.getFileName(), job.getRowsRead(),
+                job.getRowsImported(), job.getRowsRejected(), rowsPerSecond, errors, job.getStartedAt(),
+                job.getFinishedAt());
+    }
+
+    private Pin toPin(PinImportRow row, Long userId, DecodedImage image) {
+        Pin pin = new Pin();
+        pin.setTitle(row.getTitle().trim());
+        pin.setDescription(row.getDescription());
+        pin.setImageUrl(image != null ? image.getReference() : row.getImageUrl().trim());
+        pin.setLink(row.getLink());
+        pin.setBoardId(row.getBoardId());
+        pin.setUserId(userId);
+        pin.setIsPublic(row.getIsPublic() == null || row.getIsPublic());
+        pin.setIsDraft(false);
+        pin.setIsSponsored(false);
+        if (row.getKeywords() != null && !row.getKeywords().isEmpty()) {
+            pin.setKeywords(row.getKeywords().stream()
+                    .map(String::trim)
+                    .filter(keyword -> !keyword.isEmpty())
+                    .collect(Collectors.joining(",")));
+        }
+        return pin;
+    }
+
+    private static boolean isCsv(MultipartFile file) {
+        String name = lowerCase(file.getOriginalFilename());
+        return name.endsWith(".csv") || "text/csv".equals(lowerCase(file.getContentType()));
+    }
+
+    private static boolean isJsonLines(MultipartFile file) {
+        String name = lowerCase(file.getOriginalFilename());
+        String contentType = lowerCase(file.getContentType());
+        return name.endsWith(".jsonl") || name.endsWith(".ndjson")
+                || contentType.equals("application/x-ndjson") || contentType.equals("application/jsonl");
+    }
+
+    private static String lowerCase(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private interface RowSource {
+        PinImportRow END = new PinImportRow();
+
+        PinImportRow next() throws IOException;
+
+        long line();
+    }
+
+    private static final class RowFormatException extends RuntimeException {
+        RowFormatException(String message) {
+            super(message);
+        }
+    }
+
+    private final class JsonLines implements RowSource {
+        private final BufferedReader reader;
+        private long line = 0;
+
+        JsonLines(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public PinImportRow next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                if (text == null) {
+                    return END;
+                }
+                line++;
+            } while (text.isBlank());
+            try {
+                return objectMapper.readValue(text, PinImportRow.class);
+            } catch (JsonProcessingException e) {
+                throw new RowFormatException("invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public long line() {
+            return line;
+        }
+    }
+
+    private static final class CsvRows implements RowSource {
+        private final CsvReader reader;
+        private Map<String, Integer> columns;
+
+        CsvRows(CsvReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public PinImportRow next() throws IOException {
+            if (columns == null) {
+                List<String> header = reader.readRecord();
+                if (header == null) {
+                    return END;
+                }
+                columns = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(normalizeHeader(header.get(i)), i);
+                }
+                if (!columns.containsKey("title") || !columns.containsKey("imageurl")) {
+                    throw new IOException("CSV header must include title and imageUrl columns");
+                }
+            }
+
+            List<String> record = reader.readRecord();
+            if (record == null) {
+                return END;
+            }
+            PinImportRow row = new PinImportRow();
+            row.setTitle(field(record, "title"));
+            row.setDescription(field(record, "description"));
+            row.setImageUrl(field(record, "imageurl"));
+            row.setLink(field(record, "link"));
+            String keywords = field(record, "keywords");
+            if (keywords != null) {
+                row.setKeywords(Arrays.asList(keywords.split(";")));
+            }
+            String boardId = field(record, "boardid");
+            String isPublic = field(record, "ispublic");
+            try {
+                row.setBoardId(boardId != null ? Long.valueOf(boardId.trim()) : null);
+            } catch (NumberFormatException e) {
+                throw new RowFormatException("boardId is not a number");
+            }
+            row.setIsPublic(isPublic != null ? Boolean.valueOf(isPublic.trim()) : null);
+            return row;
+        }
+
+        @Override
+        public long line() {
+            return reader.getRecordLine();
+        }
+
+        private String field(List<String> record, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        private static String normalizeHeader(String name) {
+            return name.trim().toLowerCase(Locale.ROOT).replace("_", "").replace("-", "").replace("\uFEFF", "");
+        }
+    }
+
+    private static final class Job {
+        private final String id;
+        private final String fileName;
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final List<String> errors = new ArrayList<>();
+        private volatile String status = "QUEUED";
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+
+        Job(String id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        void start() {
+            startedAt = LocalDateTime.now();
+            startedNanos = System.nanoTime();
+            status = "RUNNING";
+        }
+
+        void finish(String finalStatus) {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        void reject(long line, String reason) {
+            rejected.incrementAndGet();
+            addError("line " + line + ": " + reason);
+        }
+
+        synchronized void addError(String error) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                String line = error == null ? "" : error.replace('\n', ' ').replace('\r', ' ');
+                errors.add(line.length() > MAX_ERROR_LENGTH ? line.substring(0, MAX_ERROR_LENGTH) : line);
+            }
+        }
+
+        // Stored one error per line, each line terminated so appends need no separator logic.
+        synchronized String errorsText() {
+            if (errors.isEmpty()) {
+                return null;
+            }
+            StringBuilder text = new StringBuilder();
+            errors.forEach(error -> text.append(error).append('\n'));
+            return text.toString();
+        }
+
+        double rowsPerSecond() {
+            if (startedAt == null) {
+                return 0;
+            }
+            long end = finishedAt != null ? finishedNanos : System.nanoTime();
+            double seconds = Math.max(1, end - startedNanos) / 1e9;
+            return imported.get() / seconds;
+        }
+
+        synchronized PinImportJobResponse toResponse() {
+            return new PinImportJobResponse(id, status, fileName, read.get(), imported.get(), rejected.get(),
+                    Math.round(rowsPerSecond() * 10) / 10.0, new ArrayList<>(errors), startedAt, finishedAt);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.pinterest.content.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pinterest.content.dto.EncodedPinResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Pin detail responses kept as ready-to-send JSON, bounded by total encoded size rather than entry
+ * count because a pin that still carries an inline base64 image can be megabytes. Caffeine's
+ * frequency-based admission keeps the small set of hot pins resident while one-off views of
+ * cold pins are evicted first.
+ */
+@Component
+public class PinResponseCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final Cache<Long, EncodedPinResponse> cache;
+
+    public PinResponseCache(MeterRegistry meterRegistry,
+                            @Value("${content.pin-cache.max-bytes:67108864}") long maxBytes,
+                            @Value("${content.pin-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long pinId, EncodedPinResponse response) ->
+                        response.getJson().length + response.getETag().length() + ENTRY_OVERHEAD_BYTES)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "pinResponses");
+        Gauge.builder("content.pin.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of pin detail lookups served from the response cache")
+                .register(meterRegistry);
+        Gauge.builder("content.pin.cache.weighted.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("Approximate memory held by cached pin responses")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached response, loading it at most once per pin even under concurrent misses.
+     * Exceptions from the loader propagate and nothing is cached.
+     */
+    public EncodedPinResponse get(Long pinId, Function<Long, EncodedPinResponse> loader) {
+        return cache.get(pinId, loader);
+    }
+
+    public void invalidate(Long pinId) {
+        cache.invalidate(pinId);
+    }
+}
@@ -0,0 +1,347 @@
+package com.pinterest.content.service;
+
+import com.pinterest.content.entity.Pin;
+import com.pinterest.content.repository.PinRepository;
+import com.pinterest.content.util.PostingList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over the searchable fields of public pins. Posting lists are kept as
+ * id-sorted primitive arrays so multi-term queries intersect with a linear merge.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PinSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final int KEYWORD_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_MATCH_FACTOR = 0.6;
+    private static final int MAX_PREFIX_EXPANSIONS = 256;
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PinRepository pinRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    // Changes made while a rebuild is reading the table, replayed onto the new segment before the swap.
+    // A null value records a removal.
+    private Map<Long, Document> pendingChanges;
+    private volatile boolean ready = false;
+
+    /**
+     * Builds a fresh index from the database and swaps it in once complete, so searches keep using
+     * the previous index meanwhile and no stale postings survive.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        long afterId = 0L;
+        int indexed = 0;
+        List<Object[]> rows;
+        try {
+            do {
+                rows = pinRepository.findSearchableText(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    Long id = (Long) row[0];
+                    fresh.add(id, new Document((String) row[1], (String) row[2], (String) row[3]));
+                    afterId = id;
+                }
+                indexed += rows.size();
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int terms;
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach((id, document) -> {
+                fresh.remove(id);
+                if (document != null) {
+                    fresh.add(id, document);
+                }
+            });
+            pendingChanges = null;
+            segment = fresh;
+            terms = fresh.postings.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ready = true;
+        log.info("Pin search index rebuilt: {} pins, {} terms in {} ms",
+                indexed, terms, System.currentTimeMillis() - started);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Pin pin) {
+        Document document = isSearchable(pin)
+                ? new Document(pin.getTitle(), pin.getDescription(), pin.getKeywords())
+                : null;
+        lock.writeLock().lock();
+        try {
+            segment.remove(pin.getId());
+            if (document != null) {
+                segment.add(pin.getId(), document);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.put(pin.getId(), document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long pinId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(pinId);
+            if (pendingChanges != null) {
+                pendingChanges.put(pinId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns ids of pins matching every query term, best match first. Each term matches as a
+     * prefix so results stay useful while the user is still typing.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = Math.max(1, segment.documentTerms.size());
+            List<Matches> perTerm = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Matches matches = matchTerm(segment, term, documentCount);
+                if (matches.size == 0) {
+                    return Collections.emptyList();
+                }
+                perTerm.add(matches);
+            }
+
+            perTerm.sort((a, b) -> Integer.compare(a.size, b.size));
+            Matches result = perTerm.get(0);
+            for (int i = 1; i < perTerm.size() && result.size > 0; i++) {
+                result = result.intersect(perTerm.get(i));
+            }
+            return result.top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Matches matchTerm(Segment segment, String term, int documentCount) {
+        Matches matches = new Matches(0);
+        int expansions = 0;
+        for (Map.Entry<String, PostingList> entry : segment.postings.tailMap(term, true).entrySet()) {
+            String indexedTerm = entry.getKey();
+            if (!indexedTerm.startsWith(term) || expansions++ >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            PostingList list = entry.getValue();
+            double idf = Math.log(1.0 + (double) documentCount / list.size());
+            double factor = indexedTerm.length() == term.length() ? 1.0 : PREFIX_MATCH_FACTOR;
+            matches = matches.union(list, idf * factor);
+        }
+        return matches;
+    }
+
+    private static void accumulate(Map<String, Integer> weights, String text, int weight) {
+        for (String token : tokenize(text)) {
+            weights.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isSearchable(Pin pin) {
+        return Boolean.TRUE.equals(pin.getIsPublic())
+                && !Boolean.TRUE.equals(pin.getIsDraft())
+                && !Boolean.TRUE.equals(pin.getIsSponsored());
+    }
+
+    private static final class Document {
+        private final String title;
+        private final String description;
+        private final String keywords;
+
+        Document(String title, String description, String keywords) {
+            this.title = title;
+            this.description = description;
+            this.keywords = keywords;
+        }
+    }
+
+    /** One complete set of postings; replaced wholesale by {@link #rebuild()}. */
+    private static final class Segment {
+        private final TreeMap<String, PostingList> postings = new TreeMap<>();
+        private final Map<Long, String[]> documentTerms = new HashMap<>();
+
+        void add(Long id, Document document) {
+            Map<String, Integer> weights = new HashMap<>();
+            accumulate(weights, document.title, TITLE_WEIGHT);
+            accumulate(weights, document.keywords, KEYWORD_WEIGHT);
+            accumulate(weights, document.description, DESCRIPTION_WEIGHT);
+            if (weights.isEmpty()) {
+                return;
+            }
+
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).put(id, entry.getValue());
+            }
+            documentTerms.put(id, weights.keySet().toArray(new String[0]));
+        }
+
+        void remove(Long id) {
+            String[] terms = documentTerms.remove(id);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list != null && list.remove(id) && list.size() == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /** Id-sorted candidate pins with their accumulated relevance scores. */
+    private static final class Matches {
+        private final long[] ids;
+        private final double[] scores;
+        private int size;
+
+        Matches(int capacity) {
+            this.ids = new long[capacity];
+            this.scores = new double[capacity];
+        }
+
+        Matches union(PostingList list, double factor) {
+            Matches merged = new Matches(size + list.size());
+            int i = 0;
+            int j = 0;
+            while (i < size || j < list.size()) {
+                if (j == list.size() || (i < size && ids[i] < list.id(j))) {
+                    merged.append(ids[i], scores[i]);
+                    i++;
+                } else if (i == size || list.id(j) < ids[i]) {
+                    merged.append(list.id(j), list.weight(j) * factor);
+                    j++;
+                } else {
+                    merged.append(ids[i], Math.max(scores[i], list.weight(j) * factor));
+                    i++;
+                    j++;
+                }
+            }
+            return merged;
+        }
+
+        Matches intersect(Matches other) {
+            Matches merged = new Matches(Math.min(size, other.size));
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (other.ids[j] < ids[i]) {
+                    j++;
+                } else {
+                    merged.append(ids[i], scores[i] + other.scores[j]);
+                    i++;
+                    j++;
+                }
+            }
+            return merged;
+        }
+
+        List<Long> top(int limit) {
+            // Min-heap of the best `limit` candidates; newer pins (higher ids) win ties.
+            Comparator<Integer> worstFirst = (a, b) -> scores[a] != scores[b]
+                    ? Double.compare(scores[a], scores[b])
+                    : Long.compare(ids[a], ids[b]);
+            PriorityQueue<Integer> best = new PriorityQueue<>(Math.max(1, Math.min(limit, size)), worstFirst);
+            for (int i = 0; i < size; i++) {
+                if (best.size() < limit) {
+                    best.add(i);
+                } else if (worstFirst.compare(i, best.peek()) > 0) {
+                    best.poll();
+                    best.add(i);
+                }
+            }
+            Long[] result = new Long[best.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = ids[best.poll()];
+            }
+            return Arrays.asList(result);
+        }
+
+        private void append(long id, double score) {
+            ids[size] = id;
+            scores[size] = score;
+            size++;
+        }
+    }
+}
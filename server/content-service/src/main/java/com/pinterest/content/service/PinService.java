@@ -1,18 +1,39 @@
 package com.pinterest.content.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pinterest.content.dto.EncodedPinResponse;
+import com.pinterest.content.dto.PinFeedResponse;
 import com.pinterest.content.dto.PinRequest;
 import com.pinterest.content.dto.PinResponse;
 import com.pinterest.content.entity.Pin;
 import com.pinterest.content.exception.CustomException;
+import com.pinterest.content.mapper.PinMapper;
 import com.pinterest.content.repository.PinRepository;
+import com.pinterest.content.util.KeysetCursor;
+import com.pinterest.content.util.SeenHashWindow;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,13 +42,23 @@ import java.util.stream.Collectors;
 public class PinService {
 
     private final PinRepository pinRepository;
-    private final ModelMapper modelMapper;
+    private final PinMapper pinMapper;
+    private final ImageStorageService imageStorageService;
+    private final PinSearchIndex pinSearchIndex;
+    private final PinResponseCache pinResponseCache;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final int MAX_FEED_FETCHES = 5;
+    private static final int FEED_SEEN_WINDOW = KeysetCursor.MAX_SEEN_HASHES;
+    private static final int MAX_SEARCH_RESULTS = 200;
 
     @CircuitBreaker(name = "contentCircuitBreaker", fallbackMethod = "createPinFallback")
     @Transactional
     public PinResponse createPin(PinRequest request, Long userId) {
-        Pin pin = modelMapper.map(request, Pin.class);
+        Pin pin = pinMapper.toEntity(request);
         pin.setUserId(userId);
+        pin.setImageUrl(imageStorageService.storeIfInline(request.getImageUrl()));
 
         
         if (request.getKeywords() != null) {
@@ -54,6 +85,9 @@ public class PinService {
 
         log.info("Pin created successfully - ID: {}, Title: {}", pin.getId(), pin.getTitle());
 
+        Pin created = pin;
+        afterCommit(() -> pinSearchIndex.index(created));
+
         return mapToResponse(pin);
     }
 
@@ -62,11 +96,9 @@ public class PinService {
         throw new CustomException("Service temporarily unavailable. Please try again later.");
     }
 
-    @Transactional(readOnly = true)
-    public PinResponse getPinById(Long pinId) {
-        Pin pin = pinRepository.findById(pinId)
-                .orElseThrow(() -> new CustomException("Pin not found"));
-        return mapToResponse(pin);
+    // Deliberately not transactional: a cache hit should not borrow a connection.
+    public EncodedPinResponse getEncodedPin(Long pinId) {
+        return pinResponseCache.get(pinId, this::encodePin);
     }
 
     @Transactional(readOnly = true)
@@ -89,6 +121,54 @@ public class PinService {
         return deduplicatePins(pins);
     }
 
+    @Transactional(readOnly = true)
+    public PinFeedResponse getPublicFeed(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        KeysetCursor position = (cursor == null || cursor.isBlank()) ? null : KeysetCursor.decode(cursor);
+
+        LocalDateTime afterCreatedAt = position != null ? position.getCreatedAt() : null;
+        Long afterId = position != null ? position.getId() : null;
+        SeenHashWindow seen = new SeenHashWindow(FEED_SEEN_WINDOW,
+                position != null ? position.getSeenHashes() : new long[0]);
+
+        List<PinResponse> page = new ArrayList<>(pageSize);
+        boolean exhausted = false;
+
+        // Duplicate images are skipped, so keep reading batches until the page is full,
+        // bounded so a run of duplicates cannot turn one request into a table scan.
+        for (int fetch = 0; fetch < MAX_FEED_FETCHES && page.size() < pageSize; fetch++) {
+            PageRequest limit = PageRequest.of(0, pageSize);
+            List<Pin> batch = afterId == null
+                    ? pinRepository.findPublicFeed(limit)
+                    : pinRepository.findPublicFeedAfter(afterCreatedAt, afterId, limit);
+
+            int consumed = 0;
+            for (Pin pin : batch) {
+                if (page.size() == pageSize) {
+                    break;
+                }
+                consumed++;
+                afterCreatedAt = pin.getCreatedAt();
+                afterId = pin.getId();
+                if (pin.getImageUrl() != null && seen.add(imageKey(pin.getImageUrl()))) {
+                    page.add(mapToResponse(pin));
+                }
+            }
+
+            // A short batch only ends the feed once every row in it has been read.
+            if (batch.size() < pageSize && consumed == batch.size()) {
+                exhausted = true;
+                break;
+            }
+        }
+
+        String nextCursor = null;
+        if (!exhausted && afterId != null && afterCreatedAt != null) {
+            nextCursor = new KeysetCursor(afterCreatedAt, afterId, seen.toArray()).encode();
+        }
+        return new PinFeedResponse(page, nextCursor, nextCursor != null);
+    }
+
     @Transactional(readOnly = true)
     public List<PinResponse> getSponsoredPins() {
         List<Pin> pins = pinRepository.findByIsSponsoredTrue();
@@ -97,8 +177,18 @@ public class PinService {
 
     @Transactional(readOnly = true)
     public List<PinResponse> searchPins(String keyword) {
-        List<Pin> pins = pinRepository.searchPins(keyword);
-        return deduplicatePins(pins);
+        if (!pinSearchIndex.isReady()) {
+            return deduplicatePins(pinRepository.searchPins(keyword));
+        }
+
+        List<Long> rankedIds = pinSearchIndex.search(keyword, MAX_SEARCH_RESULTS);
+        Map<Long, Pin> pinsById = pinRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Pin::getId, Function.identity()));
+        List<Pin> ranked = rankedIds.stream()
+                .map(pinsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return deduplicatePins(ranked);
     }
 
     @Transactional
@@ -115,7 +205,7 @@ public class PinService {
         if (request.getDescription() != null)
             pin.setDescription(request.getDescription());
         if (request.getImageUrl() != null)
-            pin.setImageUrl(request.getImageUrl());
+            pin.setImageUrl(imageStorageService.storeIfInline(request.getImageUrl()));
         if (request.getLink() != null)
             pin.setLink(request.getLink());
         if (request.getBoardId() != null)
@@ -138,6 +228,12 @@ public class PinService {
         }
 
         pin = pinRepository.save(pin);
+
+        Pin updated = pin;
+        afterCommit(() -> {
+            pinResponseCache.invalidate(pinId);
+            pinSearchIndex.index(updated);
+        });
         return mapToResponse(pin);
     }
 
@@ -151,16 +247,54 @@ public class PinService {
         }
 
         pinRepository.delete(pin);
+        afterCommit(() -> {
+            pinResponseCache.invalidate(pinId);
+            pinSearchIndex.remove(pinId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private EncodedPinResponse encodePin(Long pinId) {
+        Pin pin = pinRepository.findById(pinId)
+                .orElseThrow(() -> new CustomException("Pin not found"));
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(mapToResponse(pin));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode pin " + pinId, e);
+        }
+        // Counter flushes leave updatedAt alone, so the counters are part of the version.
+        String version = pin.getUpdatedAt() != null
+                ? Timestamp.valueOf(pin.getUpdatedAt()).getTime() + "-" + pin.getCommentsCount() + "-" + pin.getSavesCount()
+                : Integer.toHexString(Arrays.hashCode(json));
+        return new EncodedPinResponse(json, "\"pin-" + pinId + "-" + version + "\"");
     }
 
     private PinResponse mapToResponse(Pin pin) {
-        PinResponse response = modelMapper.map(pin, PinResponse.class);
-        if (pin.getKeywords() != null && !pin.getKeywords().isEmpty()) {
-            response.setKeywords(List.of(pin.getKeywords().split(",")));
-        } else {
-            response.setKeywords(List.of());
+        return pinMapper.toResponse(pin);
+    }
+
+    // Stored images are addressed by content hash, so equal images share a URL; a truncated SHA-256
+    // keeps the cursor small without the collisions String.hashCode allows.
+    private static long imageKey(String imageUrl) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(imageUrl.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
-        return response;
     }
 
     private List<PinResponse> deduplicatePins(List<Pin> pins) {
@@ -171,7 +305,8 @@ public class PinService {
                 .collect(Collectors.toMap(
                         Pin::getImageUrl,
                         p -> p,
-                        (existing, replacement) -> existing))
+                        (existing, replacement) -> existing,
+                        LinkedHashMap::new))
                 .values()
                 .stream()
                 .map(this::mapToResponse)
@@ -0,0 +1,50 @@
+package com.pinterest.content.util;
+
+/**
+ * Conditional GET support for controllers that answer {@code If-None-Match} themselves.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header matches the current entity tag. Uses the weak
+     * comparison RFC 9110 requires for this header: the header may list several tags or be
+     * {@code *}, and a {@code W/} prefix on either side is ignored.
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        String current = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        int length = ifNoneMatch.length();
+        int i = 0;
+        while (i < length) {
+            char c = ifNoneMatch.charAt(i);
+            if (c == ',' || c == ' ' || c == '\t') {
+                i++;
+                continue;
+            }
+            if (c == '*') {
+                return true;
+            }
+            if (ifNoneMatch.startsWith("W/", i)) {
+                i += 2;
+            }
+            // Tags are quoted and may contain commas, so scan to the closing quote rather than splitting.
+            if (i >= length || ifNoneMatch.charAt(i) != '"') {
+                return false;
+            }
+            int end = ifNoneMatch.indexOf('"', i + 1);
+            if (end < 0) {
+                return false;
+            }
+            if (end + 1 - i == current.length() && ifNoneMatch.startsWith(current, i)) {
+                return true;
+            }
+            i = end + 1;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,83 @@
+package com.pinterest.content.util;
+
+import com.pinterest.content.exception.CustomException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+public final class KeysetCursor {
+
+    /** Most seen-image hashes a cursor can carry; longer lists are rejected as tampered. */
+    public static final int MAX_SEEN_HASHES = 64;
+
+    private static final byte VERSION = 1;
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+    private final long[] seenHashes;
+
+    public KeysetCursor(LocalDateTime createdAt, Long id) {
+        this(createdAt, id, new long[0]);
+    }
+
+    public KeysetCursor(LocalDateTime createdAt, Long id, long[] seenHashes) {
+        if (seenHashes.length > MAX_SEEN_HASHES) {
+            throw new IllegalArgumentException("At most " + MAX_SEEN_HASHES + " seen hashes fit in a cursor");
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+        this.seenHashes = seenHashes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long[] getSeenHashes() {
+        return seenHashes;
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES + Integer.BYTES + Long.BYTES
+                + Short.BYTES + seenHashes.length * Long.BYTES);
+        buffer.put(VERSION);
+        buffer.putLong(createdAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(createdAt.getNano());
+        buffer.putLong(id);
+        buffer.putShort((short) seenHashes.length);
+        for (long hash : seenHashes) {
+            buffer.putLong(hash);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+            if (buffer.get() != VERSION) {
+                throw new CustomException("Invalid cursor");
+            }
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            long id = buffer.getLong();
+            int count = Short.toUnsignedInt(buffer.getShort());
+            if (count > MAX_SEEN_HASHES || buffer.remaining() != count * Long.BYTES) {
+                throw new CustomException("Invalid cursor");
+            }
+            long[] seenHashes = new long[count];
+            for (int i = 0; i < count; i++) {
+                seenHashes[i] = buffer.getLong();
+            }
+            return new KeysetCursor(createdAt, id, seenHashes);
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new CustomException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.pinterest.content.util;
+
+/**
+ * Fixed-size ring of recently seen 64-bit hashes, used to drop repeated images across feed pages
+ * without remembering every image served so far.
+ */
+public final class SeenHashWindow {
+
+    private final long[] hashes;
+    private int size;
+    private int next;
+
+    public SeenHashWindow(int capacity, long[] initial) {
+        this.hashes = new long[capacity];
+        int start = Math.max(0, initial.length - capacity);
+        for (int i = start; i < initial.length; i++) {
+            push(initial[i]);
+        }
+    }
+
+    public boolean add(long hash) {
+        for (int i = 0; i < size; i++) {
+            if (hashes[i] == hash) {
+                return false;
+            }
+        }
+        push(hash);
+        return true;
+    }
+
+    public long[] toArray() {
+        long[] ordered = new long[size];
+        int oldest = size < hashes.length ? 0 : next;
+        for (int i = 0; i < size; i++) {
+            ordered[i] = hashes[(oldest + i) % hashes.length];
+        }
+        return ordered;
+    }
+
+    private void push(long hash) {
+        hashes[next] = hash;
+        next = (next + 1) % hashes.length;
+        if (size < hashes.length) {
+            size++;
+        }
+    }
+}
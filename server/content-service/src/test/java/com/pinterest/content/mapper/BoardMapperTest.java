@@ -0,0 +1,92 @@
+package com.pinterest.content.mapper;
+
+import com.pinterest.content.dto.BoardRequest;
+import com.pinterest.content.dto.BoardResponse;
+import com.pinterest.content.entity.Board;
+import com.pinterest.content.entity.Pin;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the generated board mapper against the ModelMapper configuration it replaced (STRICT
+ * matching, board pins skipped).
+ */
+class BoardMapperTest {
+
+    private final BoardMapper boardMapper = new BoardMapperImpl();
+    private final ModelMapper modelMapper = legacyModelMapper();
+
+    @Test
+    void toResponseMatchesModelMapper() {
+        Board board = board();
+
+        assertThat(boardMapper.toResponse(board)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(board, BoardResponse.class));
+    }
+
+    @Test
+    void toResponseLeavesPinsAndPinCountToBoardService() {
+        Board board = board();
+        Pin pin = new Pin();
+        pin.setId(9L);
+        board.getPins().add(pin);
+
+        BoardResponse response = boardMapper.toResponse(board);
+
+        assertThat(response.getPins()).isNull();
+        assertThat(response.getPinCount()).isNull();
+        assertThat(response).usingRecursiveComparison().isEqualTo(modelMapper.map(board, BoardResponse.class));
+    }
+
+    @Test
+    void toResponseMatchesModelMapperWithNullFields() {
+        Board board = new Board();
+        board.setId(2L);
+        board.setIsPrivate(null);
+        board.setBoardType(null);
+
+        assertThat(boardMapper.toResponse(board)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(board, BoardResponse.class));
+    }
+
+    @Test
+    void toEntityMatchesModelMapper() {
+        BoardRequest request = new BoardRequest("Cabins", null, true, null, "PROFILE");
+
+        Board board = boardMapper.toEntity(request);
+
+        assertThat(board).usingRecursiveComparison().isEqualTo(modelMapper.map(request, Board.class));
+        assertThat(board.getId()).isNull();
+        assertThat(board.getUserId()).isNull();
+        assertThat(board.getPins()).isEmpty();
+        assertThat(board.getCollaboratorIds()).isEmpty();
+    }
+
+    private static Board board() {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Board board = new Board();
+        board.setId(1L);
+        board.setName("Cabins");
+        board.setDescription("Everything cabins");
+        board.setUserId(2L);
+        board.setIsPrivate(false);
+        board.setBoardType("DEFAULT");
+        board.setCoverImage("/api/content/images/abc");
+        board.setCreatedAt(created);
+        board.setUpdatedAt(created.plusHours(1));
+        return board;
+    }
+
+    private static ModelMapper legacyModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        modelMapper.typeMap(Board.class, BoardResponse.class)
+                .addMappings(mapper -> mapper.skip(BoardResponse::setPins));
+        return modelMapper;
+    }
+}
@@ -0,0 +1,137 @@
+package com.pinterest.content.mapper;
+
+import com.pinterest.content.dto.PinRequest;
+import com.pinterest.content.dto.PinResponse;
+import com.pinterest.content.entity.Board;
+import com.pinterest.content.entity.Pin;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the generated pin mapper against the ModelMapper configuration it replaced (STRICT
+ * matching, keywords split by PinService after mapping).
+ */
+class PinMapperTest {
+
+    private final PinMapper pinMapper = new PinMapperImpl();
+    private final ModelMapper modelMapper = legacyModelMapper();
+
+    @Test
+    void toResponseMatchesModelMapper() {
+        Pin pin = pin();
+
+        assertThat(pinMapper.toResponse(pin)).usingRecursiveComparison().isEqualTo(legacyResponse(pin));
+    }
+
+    @Test
+    void toResponseMatchesModelMapperWithNullFields() {
+        Pin pin = new Pin();
+        pin.setId(7L);
+        pin.setIsPublic(null);
+        pin.setIsDraft(null);
+        pin.setIsSponsored(null);
+        pin.setSavesCount(null);
+        pin.setCommentsCount(null);
+
+        PinResponse response = pinMapper.toResponse(pin);
+
+        assertThat(response).usingRecursiveComparison().isEqualTo(legacyResponse(pin));
+        assertThat(response.getTitle()).isNull();
+        assertThat(response.getKeywords()).isEmpty();
+    }
+
+    @Test
+    void toResponseDoesNotExposeBoards() {
+        Pin pin = pin();
+        Board board = new Board();
+        board.setId(3L);
+        pin.getBoards().add(board);
+
+        assertThat(pinMapper.toResponse(pin)).usingRecursiveComparison().isEqualTo(legacyResponse(pin));
+    }
+
+    @Test
+    void splitKeywordsSplitsOnCommasOnly() {
+        assertThat(pinMapper.splitKeywords("autumn,cabin decor,")).containsExactly("autumn", "cabin decor");
+        assertThat(pinMapper.splitKeywords("autumn")).containsExactly("autumn");
+        assertThat(pinMapper.splitKeywords("")).isEmpty();
+        assertThat(pinMapper.splitKeywords(null)).isEmpty();
+    }
+
+    @Test
+    void toEntityMatchesModelMapperExceptServiceOwnedFields() {
+        PinRequest request = new PinRequest();
+        request.setTitle("Cabin");
+        request.setDescription(null);
+        request.setImageUrl("/api/content/images/abc");
+        request.setLink("https://example.com/cabin");
+        request.setBoardId(4L);
+        request.setIsPublic(false);
+        request.setIsDraft(true);
+        request.setKeywords(List.of("cabin", "winter"));
+        request.setParentPinId(9L);
+        request.setIsSponsored(null);
+        request.setPromotionLink("https://example.com/promo");
+        request.setCampaignId(12L);
+        request.setSponsorName("Acme");
+
+        Pin pin = pinMapper.toEntity(request);
+
+        // PinService joins the keyword list itself, so it is left unmapped.
+        assertThat(pin).usingRecursiveComparison()
+                .ignoringFields("keywords")
+                .isEqualTo(modelMapper.map(request, Pin.class));
+        assertThat(pin.getKeywords()).isNull();
+        assertThat(pin.getId()).isNull();
+        assertThat(pin.getUserId()).isNull();
+        assertThat(pin.getSavesCount()).isZero();
+        assertThat(pin.getCommentsCount()).isZero();
+    }
+
+    private PinResponse legacyResponse(Pin pin) {
+        PinResponse response = modelMapper.map(pin, PinResponse.class);
+        if (pin.getKeywords() != null && !pin.getKeywords().isEmpty()) {
+            response.setKeywords(List.of(pin.getKeywords().split(",")));
+        } else {
+            response.setKeywords(List.of());
+        }
+        return response;
+    }
+
+    private static Pin pin() {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Pin pin = new Pin();
+        pin.setId(1L);
+        pin.setTitle("Autumn cabin");
+        pin.setDescription("A cabin idea");
+        pin.setKeywords("autumn,cabin");
+        pin.setImageUrl("/api/content/images/abc");
+        pin.setLink("https://example.com/1");
+        pin.setUserId(2L);
+        pin.setBoardId(3L);
+        pin.setParentPinId(4L);
+        pin.setIsPublic(true);
+        pin.setIsDraft(false);
+        pin.setIsSponsored(true);
+        pin.setPromotionLink("https://example.com/promo");
+        pin.setCampaignId(5L);
+        pin.setSponsorName("Acme");
+        pin.setSavesCount(10);
+        pin.setCommentsCount(2);
+        pin.setCreatedAt(created);
+        pin.setUpdatedAt(created.plusHours(1));
+        return pin;
+    }
+
+    private static ModelMapper legacyModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        return modelMapper;
+    }
+}
@@ -0,0 +1,65 @@
+package com.pinterest.content.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRecords() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("title,link\nSunset,https://example.com\n"));
+
+        assertThat(reader.readRecord()).containsExactly("title", "link");
+        assertThat(reader.readRecord()).containsExactly("Sunset", "https://example.com");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void readsQuotedFieldsWithCommasAndDoubledQuotes() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"Red, white\",\"She said \"\"hi\"\"\",\"\"\n"));
+
+        assertThat(reader.readRecord()).containsExactly("Red, white", "She said \"hi\"", "");
+    }
+
+    @Test
+    void readsMultilineQuotedFieldsAndTracksRecordLines() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,\"line one\r\nline two\"\r\nb,c"));
+
+        assertThat(reader.readRecord()).containsExactly("a", "line one\r\nline two");
+        assertThat(reader.getRecordLine()).isEqualTo(1);
+        assertThat(reader.readRecord()).containsExactly("b", "c");
+        assertThat(reader.getRecordLine()).isEqualTo(3);
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void keepsEmptyFieldsAndSkipsBlankLines() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\n\r\n,x,\n\ny\n"));
+
+        assertThat(reader.readRecord()).containsExactly("", "x", "");
+        assertThat(reader.readRecord()).containsExactly("y");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void treatsQuotesInsideUnquotedFieldsLiterally() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("5\" frame,ok\n"));
+
+        assertThat(reader.readRecord()).containsExactly("5\" frame", "ok");
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedField() {
+        CsvReader reader = new CsvReader(new StringReader("a\n\"never closed,b\n"));
+
+        assertThatThrownBy(() -> {
+            reader.readRecord();
+            reader.readRecord();
+        }).isInstanceOf(IOException.class).hasMessageContaining("line 2");
+    }
+}
@@ -0,0 +1,48 @@
+package com.pinterest.content.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    private static final String ETAG = "\"v-1-1700000000000\"";
+
+    @Test
+    void matchesSingleTag() {
+        assertThat(ETags.matches(ETAG, ETAG)).isTrue();
+        assertThat(ETags.matches("\"v-1-1\"", ETAG)).isFalse();
+    }
+
+    @Test
+    void matchesAnyTagInList() {
+        assertThat(ETags.matches("\"a\", " + ETAG + ",\"b\"", ETAG)).isTrue();
+        assertThat(ETags.matches("\"a\",\"b\"", ETAG)).isFalse();
+    }
+
+    @Test
+    void comparesWeakly() {
+        assertThat(ETags.matches("W/" + ETAG, ETAG)).isTrue();
+        assertThat(ETags.matches(ETAG, "W/" + ETAG)).isTrue();
+        assertThat(ETags.matches("\"x\", W/" + ETAG, ETAG)).isTrue();
+    }
+
+    @Test
+    void matchesWildcard() {
+        assertThat(ETags.matches("*", ETAG)).isTrue();
+    }
+
+    @Test
+    void doesNotSplitInsideQuotedTags() {
+        assertThat(ETags.matches("\"a," + ETAG.substring(1), ETAG)).isFalse();
+        assertThat(ETags.matches("\"a,b\", " + ETAG, ETAG)).isTrue();
+    }
+
+    @Test
+    void rejectsMissingOrMalformedHeaders() {
+        assertThat(ETags.matches(null, ETAG)).isFalse();
+        assertThat(ETags.matches("", ETAG)).isFalse();
+        assertThat(ETags.matches("v-1-1700000000000", ETAG)).isFalse();
+        assertThat(ETags.matches("\"unterminated", ETAG)).isFalse();
+    }
+}
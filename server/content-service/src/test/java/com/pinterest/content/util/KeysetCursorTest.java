@@ -0,0 +1,94 @@
+package com.pinterest.content.util;
+
+import com.pinterest.content.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_789);
+
+    @Test
+    void roundTripsPositionAndSeenHashes() {
+        long[] hashes = {Long.MIN_VALUE, -1L, 0L, 42L, Long.MAX_VALUE};
+
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(CREATED_AT, 77L, hashes).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(decoded.getId()).isEqualTo(77L);
+        assertThat(decoded.getSeenHashes()).containsExactly(hashes);
+    }
+
+    @Test
+    void roundTripsWithoutSeenHashes() {
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(CREATED_AT, 1L).encode());
+
+        assertThat(decoded.getId()).isEqualTo(1L);
+        assertThat(decoded.getSeenHashes()).isEmpty();
+    }
+
+    @Test
+    void roundTripsFullSeenWindow() {
+        long[] hashes = new long[KeysetCursor.MAX_SEEN_HASHES];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = i * 31L;
+        }
+
+        assertThat(KeysetCursor.decode(new KeysetCursor(CREATED_AT, 1L, hashes).encode()).getSeenHashes())
+                .containsExactly(hashes);
+    }
+
+    @Test
+    void rejectsNegativeSeenHashCount() {
+        assertInvalid(token(1, (short) -1, 0));
+    }
+
+    @Test
+    void rejectsSeenHashCountAboveWindow() {
+        int count = KeysetCursor.MAX_SEEN_HASHES + 1;
+        assertInvalid(token(1, (short) count, count));
+    }
+
+    @Test
+    void rejectsSeenHashCountNotMatchingPayload() {
+        assertInvalid(token(1, (short) 3, 2));
+        assertInvalid(token(1, (short) 1, 2));
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        assertInvalid(token(2, (short) 0, 0));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertInvalid("");
+        assertInvalid("not a cursor!");
+        assertInvalid(Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[]{1, 0, 0}));
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> KeysetCursor.decode(token))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static String token(int version, short declaredHashes, int actualHashes) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 + 4 + 8 + 2 + actualHashes * 8);
+        buffer.put((byte) version);
+        buffer.putLong(1_700_000_000L);
+        buffer.putInt(0);
+        buffer.putLong(5L);
+        buffer.putShort(declaredHashes);
+        for (int i = 0; i < actualHashes; i++) {
+            buffer.putLong(i);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
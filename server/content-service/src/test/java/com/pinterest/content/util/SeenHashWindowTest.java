@@ -0,0 +1,52 @@
+package com.pinterest.content.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeenHashWindowTest {
+
+    @Test
+    void rejectsHashesAlreadyInTheWindow() {
+        SeenHashWindow window = new SeenHashWindow(4, new long[0]);
+
+        assertThat(window.add(1L)).isTrue();
+        assertThat(window.add(2L)).isTrue();
+        assertThat(window.add(1L)).isFalse();
+        assertThat(window.toArray()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void evictsOldestOnceFull() {
+        SeenHashWindow window = new SeenHashWindow(3, new long[0]);
+        window.add(1L);
+        window.add(2L);
+        window.add(3L);
+
+        assertThat(window.add(4L)).isTrue();
+        assertThat(window.toArray()).containsExactly(2L, 3L, 4L);
+        assertThat(window.add(1L)).isTrue();
+        assertThat(window.add(3L)).isFalse();
+    }
+
+    @Test
+    void keepsOnlyNewestOfALongerInitialWindow() {
+        SeenHashWindow window = new SeenHashWindow(2, new long[]{1L, 2L, 3L});
+
+        assertThat(window.toArray()).containsExactly(2L, 3L);
+        assertThat(window.add(1L)).isTrue();
+    }
+
+    @Test
+    void roundTripsThroughTheCursor() {
+        SeenHashWindow window = new SeenHashWindow(3, new long[]{5L, 6L});
+        window.add(7L);
+        window.add(8L);
+
+        SeenHashWindow restored = new SeenHashWindow(3, window.toArray());
+
+        assertThat(restored.toArray()).containsExactly(6L, 7L, 8L);
+        assertThat(restored.add(8L)).isFalse();
+        assertThat(restored.add(5L)).isTrue();
+    }
+}
@@ -20,6 +20,9 @@ CREATE TABLE IF NOT EXISTS users (
     INDEX idx_username (username)
 );
 
+-- Users without an avatar store NULL; clear empty strings left by older versions.
+UPDATE users SET avatar = NULL WHERE avatar = '';
+
 -- Database: pinterest_content_db
 CREATE DATABASE IF NOT EXISTS pinterest_content_db;
 USE pinterest_content_db;
@@ -55,9 +58,40 @@ CREATE TABLE IF NOT EXISTS pins (
     INDEX idx_board_id (board_id),
     INDEX idx_is_public (is_public),
     INDEX idx_is_draft (is_draft),
+    INDEX idx_pins_public_feed (is_public, is_draft, is_sponsored, created_at, id),
     FOREIGN KEY (board_id) REFERENCES boards(id) ON DELETE SET NULL
 );
 
+-- Pooled id allocation for pins; content-service seeds next_val past MAX(pins.id) on startup
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) PRIMARY KEY,
+    next_val BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_idempotency_keys_created (created_at)
+);
+
+-- Bulk pin import jobs; heartbeat_at is refreshed by the instance running the job
+CREATE TABLE IF NOT EXISTS pin_import_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    file_name VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    rows_read BIGINT NOT NULL DEFAULT 0,
+    rows_imported BIGINT NOT NULL DEFAULT 0,
+    rows_rejected BIGINT NOT NULL DEFAULT 0,
+    errors MEDIUMTEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP NULL,
+    finished_at TIMESTAMP NULL,
+    heartbeat_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_pin_import_jobs_status_heartbeat (status, heartbeat_at),
+    INDEX idx_pin_import_jobs_finished (finished_at)
+);
+
 -- Database: pinterest_collaboration_db
 CREATE DATABASE IF NOT EXISTS pinterest_collaboration_db;
 USE pinterest_collaboration_db;
@@ -66,10 +100,20 @@ CREATE TABLE IF NOT EXISTS connections (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     follower_id BIGINT NOT NULL,
     following_id BIGINT NOT NULL,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     UNIQUE KEY unique_connection (follower_id, following_id),
-    INDEX idx_follower_id (follower_id),
-    INDEX idx_following_id (following_id)
+    INDEX idx_connections_follower_created (follower_id, created_at),
+    INDEX idx_connections_following_created (following_id, created_at)
+);
+
+-- Connection pages are keyed on (created_at, id); backfill rows from before the column was required.
+UPDATE connections SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE connections MODIFY created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS connection_counts (
+    user_id BIGINT PRIMARY KEY,
+    followers_count BIGINT NOT NULL DEFAULT 0,
+    following_count BIGINT NOT NULL DEFAULT 0
 );
 
 CREATE TABLE IF NOT EXISTS invitations (
@@ -97,6 +141,22 @@ CREATE TABLE IF NOT EXISTS board_collaborators (
     INDEX idx_user_id (user_id)
 );
 
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    board_id BIGINT,
+    user_id BIGINT,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY unique_outbox_idempotency_key (idempotency_key),
+    INDEX idx_outbox_events_status_next (status, next_attempt_at)
+);
+
 -- Database: pinterest_business_db
 CREATE DATABASE IF NOT EXISTS pinterest_business_db;
 USE pinterest_business_db;
@@ -107,12 +167,21 @@ CREATE TABLE IF NOT EXISTS business_profiles (
     business_name VARCHAR(255) NOT NULL,
     description TEXT,
     website VARCHAR(500),
-    logo VARCHAR(500),
+    logo LONGTEXT,
+    category VARCHAR(255),
+    followers_count INT DEFAULT 0,
+    is_verified BOOLEAN DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    INDEX idx_user_id (user_id)
+    INDEX idx_user_id (user_id),
+    INDEX idx_business_profiles_category_name (category, business_name),
+    INDEX idx_business_profiles_name (business_name),
+    INDEX idx_business_profiles_followers (followers_count)
 );
 
+-- Profiles without a logo store NULL; clear empty strings left by older versions.
+UPDATE business_profiles SET logo = NULL WHERE logo = '';
+
 CREATE TABLE IF NOT EXISTS campaigns (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     business_id BIGINT NOT NULL,
@@ -153,6 +222,9 @@ CREATE TABLE IF NOT EXISTS users (
     INDEX idx_username (username)
 );
 
+-- Users without an avatar store NULL; clear empty strings left by older versions.
+UPDATE users SET avatar = NULL WHERE avatar = '';
+
 -- Database: pinterest_content_db
 CREATE DATABASE IF NOT EXISTS pinterest_content_db;
 USE pinterest_content_db;
@@ -188,9 +260,40 @@ CREATE TABLE IF NOT EXISTS pins (
     INDEX idx_board_id (board_id),
     INDEX idx_is_public (is_public),
     INDEX idx_is_draft (is_draft),
+    INDEX idx_pins_public_feed (is_public, is_draft, is_sponsored, created_at, id),
     FOREIGN KEY (board_id) REFERENCES boards(id) ON DELETE SET NULL
 );
 
+-- Pooled id allocation for pins; content-service seeds next_val past MAX(pins.id) on startup
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) PRIMARY KEY,
+    next_val BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_idempotency_keys_created (created_at)
+);
+
+-- Bulk pin import jobs; heartbeat_at is refreshed by the instance running the job
+CREATE TABLE IF NOT EXISTS pin_import_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    file_name VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    rows_read BIGINT NOT NULL DEFAULT 0,
+    rows_imported BIGINT NOT NULL DEFAULT 0,
+    rows_rejected BIGINT NOT NULL DEFAULT 0,
+    errors MEDIUMTEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP NULL,
+    finished_at TIMESTAMP NULL,
+    heartbeat_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_pin_import_jobs_status_heartbeat (status, heartbeat_at),
+    INDEX idx_pin_import_jobs_finished (finished_at)
+);
+
 -- Database: pinterest_collaboration_db
 CREATE DATABASE IF NOT EXISTS pinterest_collaboration_db;
 USE pinterest_collaboration_db;
@@ -199,10 +302,20 @@ CREATE TABLE IF NOT EXISTS connections (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     follower_id BIGINT NOT NULL,
     following_id BIGINT NOT NULL,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     UNIQUE KEY unique_connection (follower_id, following_id),
-    INDEX idx_follower_id (follower_id),
-    INDEX idx_following_id (following_id)
+    INDEX idx_connections_follower_created (follower_id, created_at),
+    INDEX idx_connections_following_created (following_id, created_at)
+);
+
+-- Connection pages are keyed on (created_at, id); backfill rows from before the column was required.
+UPDATE connections SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE connections MODIFY created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS connection_counts (
+    user_id BIGINT PRIMARY KEY,
+    followers_count BIGINT NOT NULL DEFAULT 0,
+    following_count BIGINT NOT NULL DEFAULT 0
 );
 
 CREATE TABLE IF NOT EXISTS invitations (
@@ -230,6 +343,22 @@ CREATE TABLE IF NOT EXISTS board_collaborators (
     INDEX idx_user_id (user_id)
 );
 
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    board_id BIGINT,
+    user_id BIGINT,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY unique_outbox_idempotency_key (idempotency_key),
+    INDEX idx_outbox_events_status_next (status, next_attempt_at)
+);
+
 -- Database: pinterest_business_db
 CREATE DATABASE IF NOT EXISTS pinterest_business_db;
 USE pinterest_business_db;
@@ -240,12 +369,21 @@ CREATE TABLE IF NOT EXISTS business_profiles (
     business_name VARCHAR(255) NOT NULL,
     description TEXT,
     website VARCHAR(500),
-    logo VARCHAR(500),
+    logo LONGTEXT,
+    category VARCHAR(255),
+    followers_count INT DEFAULT 0,
+    is_verified BOOLEAN DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    INDEX idx_user_id (user_id)
+    INDEX idx_user_id (user_id),
+    INDEX idx_business_profiles_category_name (category, business_name),
+    INDEX idx_business_profiles_name (business_name),
+    INDEX idx_business_profiles_followers (followers_count)
 );
 
+-- Profiles without a logo store NULL; clear empty strings left by older versions.
+UPDATE business_profiles SET logo = NULL WHERE logo = '';
+
 CREATE TABLE IF NOT EXISTS campaigns (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     business_id BIGINT NOT NULL,
@@ -0,0 +1,38 @@
+package com.pinterest.gateway.config;
+
+import com.pinterest.gateway.handler.ProfilePageHandler;
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Composition endpoints served by the gateway itself rather than proxied to a single service.
+ */
+@Configuration
+public class ProfilePageRouter {
+
+    private static final String BFF_PATHS = "/api/bff/**";
+
+    @Bean
+    public RouterFunction<ServerResponse> profilePageRoutes(ProfilePageHandler handler) {
+        return RouterFunctions.route(RequestPredicates.GET("/api/bff/profile/{userId}"), handler::getProfilePage);
+    }
+
+    // globalcors only applies to proxied routes, so the same policy is registered for these paths.
+    @Bean
+    public CorsWebFilter bffCorsWebFilter(GlobalCorsProperties globalCorsProperties) {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        CorsConfiguration cors = globalCorsProperties.getCorsConfigurations().get("/**");
+        if (cors != null) {
+            source.registerCorsConfiguration(BFF_PATHS, cors);
+        }
+        return new CorsWebFilter(source);
+    }
+}
@@ -0,0 +1,24 @@
+package com.pinterest.gateway.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProfilePageResponse {
+    private JsonNode user;
+    private JsonNode pins;
+    private JsonNode boards;
+    private JsonNode drafts;
+    private Long followersCount;
+    private Long followingCount;
+    private Boolean viewerFollows;
+    private List<String> unavailable;
+}
@@ -0,0 +1,108 @@
+package com.pinterest.gateway.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every request into a per-route, per-status latency histogram and passes a sample of them
+ * to the {@link AccessLogWriter}. Server errors and slow requests are always logged; the rest at
+ * {@code gateway.access-log.sample-rate}. Runs as a web filter rather than a route filter so the
+ * gateway's own endpoints and unmatched paths are measured as well.
+ */
+@Component
+public class AccessLogFilter implements WebFilter, Ordered {
+
+    // Mirrors nginx: the client went away before a response was written.
+    private static final int CLIENT_CLOSED_REQUEST = 499;
+
+    private final AccessLogWriter writer;
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final long slowRequestNanos;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public AccessLogFilter(AccessLogWriter writer, MeterRegistry meterRegistry,
+            @Value("${gateway.access-log.sample-rate:0.01}") double sampleRate,
+            @Value("${gateway.access-log.slow-request:1s}") Duration slowRequest) {
+        this.writer = writer;
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.slowRequestNanos = slowRequest.toNanos();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long started = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> record(exchange, signal, started));
+    }
+
+    private void record(ServerWebExchange exchange, SignalType signal, long started) {
+        long elapsed = System.nanoTime() - started;
+        String route = route(exchange);
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = signal == SignalType.CANCEL ? CLIENT_CLOSED_REQUEST
+                : statusCode != null ? statusCode.value() : 200;
+
+        timers.computeIfAbsent(route + ":" + status, ignored -> Timer.builder("gateway.route.latency")
+                .tag("route", route)
+                .tag("status", String.valueOf(status))
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (status >= 500 || elapsed >= slowRequestNanos || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            ServerHttpRequest request = exchange.getRequest();
+            URI upstream = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+            InetSocketAddress client = request.getRemoteAddress();
+            writer.write(new AccessLogWriter.Entry(
+                    System.currentTimeMillis(),
+                    request.getMethod().name(),
+                    request.getURI().getRawPath(),
+                    route,
+                    status,
+                    elapsed / 1e6,
+                    upstream != null ? upstream.getHost() + ":" + upstream.getPort() : null,
+                    client != null ? client.getHostString() : null,
+                    exchange.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER)));
+        }
+    }
+
+    private static String route(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route != null) {
+            return route.getId();
+        }
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.getPatternString() : "unmatched";
+    }
+}
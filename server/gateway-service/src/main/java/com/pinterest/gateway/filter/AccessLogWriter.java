@@ -0,0 +1,129 @@
+package com.pinterest.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands access log entries from the event loop to a single background thread through a bounded
+ * ring buffer. When the buffer is full the entry is dropped and counted; the request path never
+ * waits on the logging backend. Entries are written as one JSON object per line to the
+ * {@code com.pinterest.gateway.access} logger.
+ */
+@Component
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("com.pinterest.gateway.access");
+    private static final int DRAIN_BATCH_SIZE = 256;
+
+    private final BlockingQueue<Entry> buffer;
+    private final Counter dropped;
+    private Thread writer;
+
+    public AccessLogWriter(@Value("${gateway.access-log.buffer-size:8192}") int bufferSize,
+            MeterRegistry meterRegistry) {
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.dropped = Counter.builder("gateway.access.log.dropped").register(meterRegistry);
+        Gauge.builder("gateway.access.log.buffered", buffer, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer = new Thread(this::drain, "access-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void write(Entry entry) {
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+                batch.forEach(entry -> ACCESS_LOG.info(entry.toJson()));
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        buffer.drainTo(batch);
+        batch.forEach(entry -> ACCESS_LOG.info(entry.toJson()));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final long timestampMillis;
+        private final String method;
+        private final String path;
+        private final String route;
+        private final int status;
+        private final double durationMillis;
+        private final String upstream;
+        private final String client;
+        private final String cache;
+
+        String toJson() {
+            StringBuilder json = new StringBuilder(256).append('{');
+            appendField(json, "ts", Instant.ofEpochMilli(timestampMillis).toString()).append(',');
+            appendField(json, "method", method).append(',');
+            appendField(json, "path", path).append(',');
+            appendField(json, "route", route).append(',');
+            json.append("\"status\":").append(status).append(',');
+            json.append("\"durationMs\":").append(String.format(Locale.ROOT, "%.2f", durationMillis));
+            if (upstream != null) {
+                appendField(json.append(','), "upstream", upstream);
+            }
+            if (client != null) {
+                appendField(json.append(','), "client", client);
+            }
+            if (cache != null) {
+                appendField(json.append(','), "cache", cache);
+            }
+            return json.append('}').toString();
+        }
+
+        private static StringBuilder appendField(StringBuilder json, String name, String value) {
+            json.append('"').append(name).append("\":\"");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    json.append('\\').append(c);
+                } else if (c < 0x20) {
+                    json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+            return json.append('"');
+        }
+    }
+}
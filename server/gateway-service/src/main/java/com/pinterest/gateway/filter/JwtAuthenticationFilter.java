@@ -1,10 +1,8 @@
 package com.pinterest.gateway.filter;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import com.pinterest.gateway.security.JwtTokenVerifier;
+import com.pinterest.gateway.security.JwtTokenVerifier.VerifiedToken;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
@@ -15,18 +13,15 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-
 @Component
 @Slf4j
 public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAuthenticationFilter.Config> {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtTokenVerifier tokenVerifier;
 
-    public JwtAuthenticationFilter() {
+    public JwtAuthenticationFilter(JwtTokenVerifier tokenVerifier) {
         super(Config.class);
+        this.tokenVerifier = tokenVerifier;
     }
 
     @Override
@@ -39,7 +34,6 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
 
             
             if (request.getURI().getPath().startsWith("/api/auth")) {
-                log.debug("Skipping JWT authentication for auth endpoint: {}", request.getURI().getPath());
                 return chain.filter(exchange);
             }
 
@@ -54,29 +48,21 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
 
             String token = authHeader.substring(7);
 
+            VerifiedToken verified;
             try {
-                log.debug("Validating JWT token for path: {}", request.getURI().getPath());
-                SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-                Claims claims = Jwts.parser()
-                        .verifyWith(key)
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload();
-
-                String userId = claims.get("userId", Long.class).toString();
-                String email = claims.getSubject();
-
-                
-                ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
-                        .header("X-User-Id", userId)
-                        .header("X-User-Email", email)
-                        .build();
-
-                return chain.filter(exchange.mutate().request(modifiedRequest).build());
+                verified = tokenVerifier.verify(token);
             } catch (Exception e) {
-                log.error("JWT validation error: ", e);
+                log.debug("JWT validation failed: {}", e.getMessage());
                 return onError(exchange, "Invalid token", HttpStatus.UNAUTHORIZED);
             }
+
+            
+            ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
+                    .header("X-User-Id", verified.getUserId())
+                    .header("X-User-Email", verified.getEmail())
+                    .build();
+
+            return chain.filter(exchange.mutate().request(modifiedRequest).build());
         };
     }
 
@@ -0,0 +1,321 @@
+package com.pinterest.gateway.filter;
+
+import com.pinterest.gateway.filter.ResponseCacheStore.CachedResponse;
+import com.pinterest.gateway.util.ETags;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches successful GET responses of a route at the edge. Fresh entries are served without
+ * touching the backend; entries past their TTL but inside the stale-while-revalidate window are
+ * served as they are while a single background request refreshes them.
+ *
+ * <p>Requests carrying credentials bypass the cache unless the route is marked {@code anonymous},
+ * in which case credentials are dropped before forwarding, so the backend can only ever produce
+ * the response every caller would get. Responses that are private, {@code no-store}, set a cookie
+ * or vary on {@code *} are never stored.
+ */
+@Component
+@Slf4j
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final Set<String> CREDENTIAL_HEADERS = Set.of(
+            HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE, "X-User-Id", "X-User-Email");
+    private static final Set<String> CONDITIONAL_HEADERS = Set.of(
+            HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+    private static final Set<String> UNSTORED_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "te", "trailer", "upgrade",
+            "proxy-authenticate", "set-cookie", "age", "date", "content-length", "vary");
+    private static final Duration REVALIDATE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ResponseCacheStore store;
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheStore store,
+            @LoadBalanced WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.store = store;
+        this.webClient = webClientBuilder.build();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String routeId = routeId(exchange);
+            Map<String, String> requestDirectives = cacheControl(request.getHeaders());
+            if (request.getMethod() != HttpMethod.GET || requestDirectives.containsKey("no-store")) {
+                count(routeId, "bypass");
+                return chain.filter(exchange);
+            }
+            boolean hasCredentials = CREDENTIAL_HEADERS.stream().anyMatch(request.getHeaders()::containsKey);
+            if (hasCredentials && !config.isAnonymous()) {
+                count(routeId, "bypass");
+                return chain.filter(exchange);
+            }
+
+            ServerHttpRequest forwarded = request.mutate()
+                    .headers(headers -> {
+                        CREDENTIAL_HEADERS.forEach(headers::remove);
+                        CONDITIONAL_HEADERS.forEach(headers::remove);
+                    })
+                    .build();
+            String baseKey = baseKey(forwarded);
+            String key = variantKey(baseKey, store.varyNames(baseKey), forwarded.getHeaders());
+
+            long now = System.currentTimeMillis();
+            CachedResponse cached = requestDirectives.containsKey("no-cache") ? null : store.get(key);
+            if (cached != null && now < cached.getFreshUntil()) {
+                count(routeId, "hit");
+                return serve(exchange, cached, now, "HIT");
+            }
+            if (cached != null) {
+                count(routeId, "stale");
+                revalidate(exchange, forwarded, baseKey, key, config);
+                return serve(exchange, cached, now, "STALE");
+            }
+
+            count(routeId, "miss");
+            exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            ServerHttpResponse response = new CachingResponse(exchange.getResponse(), baseKey, forwarded.getHeaders(), config);
+            return chain.filter(exchange.mutate().request(forwarded).response(response).build());
+        };
+    }
+
+    private Mono<Void> serve(ServerWebExchange exchange, CachedResponse cached, long now, String cacheStatus) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        cached.getHeaders().forEach((name, values) -> headers.put(name, new ArrayList<>(values)));
+        mergeVary(headers, cached.getVary());
+        headers.set(HttpHeaders.AGE, String.valueOf(Math.max(0, (now - cached.getStoredAt()) / 1000)));
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+
+        String eTag = headers.getETag();
+        if (ETags.matches(exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    private void revalidate(ServerWebExchange exchange, ServerHttpRequest forwarded, String baseKey, String key,
+            Config config) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || !revalidating.add(key)) {
+            return;
+        }
+        URI routeUri = route.getUri();
+        URI uri = UriComponentsBuilder.fromUri(routeUri)
+                .scheme("lb".equals(routeUri.getScheme()) ? "http" : routeUri.getScheme())
+                .replacePath(forwarded.getURI().getRawPath())
+                .replaceQuery(forwarded.getURI().getRawQuery())
+                .build(true)
+                .toUri();
+        HttpHeaders requestHeaders = forwarded.getHeaders();
+
+        webClient.get()
+                .uri(uri)
+                .headers(headers -> {
+                    headers.addAll(requestHeaders);
+                    headers.remove(HttpHeaders.HOST);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                })
+                .exchangeToMono(response -> DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()))
+                        .map(buffer -> {
+                            byte[] body = new byte[buffer.readableByteCount()];
+                            buffer.read(body);
+                            DataBufferUtils.release(buffer);
+                            return new ResponseEntity<>(body, response.headers().asHttpHeaders(), response.statusCode());
+                        }))
+                .timeout(REVALIDATE_TIMEOUT)
+                .doFinally(signal -> revalidating.remove(key))
+                .subscribe(
+                        entity -> storeIfCacheable(baseKey, requestHeaders, entity.getStatusCode(), entity.getHeaders(),
+                                entity.getBody(), config),
+                        e -> log.debug("Revalidating {} failed: {}", uri, e.getMessage()));
+    }
+
+    private void storeIfCacheable(String baseKey, HttpHeaders requestHeaders, HttpStatusCode status,
+            HttpHeaders responseHeaders, byte[] body, Config config) {
+        long ttlMillis = ttlMillis(status, responseHeaders, config);
+        if (ttlMillis <= 0 || body.length > store.getMaxEntryBytes()) {
+            return;
+        }
+        HttpHeaders stored = new HttpHeaders();
+        responseHeaders.forEach((name, values) -> {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (!UNSTORED_HEADERS.contains(lower) && !lower.startsWith("access-control-")) {
+                stored.put(name, new ArrayList<>(values));
+            }
+        });
+        List<String> vary = List.copyOf(responseHeaders.getVary());
+        long now = System.currentTimeMillis();
+        CachedResponse response = new CachedResponse(body, HttpHeaders.readOnlyHttpHeaders(stored), vary, now,
+                now + ttlMillis, now + ttlMillis + config.getStaleWhileRevalidate().toMillis());
+        store.put(baseKey, variantKey(baseKey, vary, requestHeaders), response);
+    }
+
+    /** Returns how long a response may be served from the cache, or zero when it must not be stored. */
+    private static long ttlMillis(HttpStatusCode status, HttpHeaders headers, Config config) {
+        if (status.value() != HttpStatus.OK.value() || headers.containsKey(HttpHeaders.SET_COOKIE)
+                || headers.getVary().contains("*")) {
+            return 0;
+        }
+        Map<String, String> directives = cacheControl(headers);
+        if (directives.containsKey("no-store") || directives.containsKey("private") || directives.containsKey("no-cache")) {
+            return 0;
+        }
+        long ttlMillis = config.getTtl().toMillis();
+        String maxAge = directives.getOrDefault("s-maxage", directives.get("max-age"));
+        if (maxAge != null) {
+            try {
+                ttlMillis = Math.min(ttlMillis, Long.parseLong(maxAge) * 1000);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return ttlMillis;
+    }
+
+    private static Map<String, String> cacheControl(HttpHeaders headers) {
+        Map<String, String> directives = new HashMap<>();
+        for (String value : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+            for (String directive : value.split(",")) {
+                String[] parts = directive.trim().toLowerCase(Locale.ROOT).split("=", 2);
+                if (!parts[0].isEmpty()) {
+                    directives.put(parts[0], parts.length > 1 ? parts[1].replace("\"", "") : "");
+                }
+            }
+        }
+        return directives;
+    }
+
+    private static String baseKey(ServerHttpRequest request) {
+        URI uri = request.getURI();
+        return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+    }
+
+    private static String variantKey(String baseKey, List<String> varyNames, HttpHeaders requestHeaders) {
+        if (varyNames.isEmpty()) {
+            return baseKey;
+        }
+        StringBuilder key = new StringBuilder(baseKey);
+        for (String name : varyNames) {
+            key.append('\n').append(name.toLowerCase(Locale.ROOT)).append('=')
+                    .append(String.join(",", requestHeaders.getOrEmpty(name)));
+        }
+        return key.toString();
+    }
+
+    private static void mergeVary(HttpHeaders headers, List<String> vary) {
+        if (vary.isEmpty()) {
+            return;
+        }
+        List<String> merged = new ArrayList<>(headers.getVary());
+        for (String name : vary) {
+            if (merged.stream().noneMatch(name::equalsIgnoreCase)) {
+                merged.add(name);
+            }
+        }
+        headers.setVary(merged);
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private void count(String routeId, String result) {
+        counters.computeIfAbsent(routeId + ":" + result, ignored -> Counter.builder("gateway.response.cache.requests")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    /** Copies a cacheable response body into the store on its way to the client. */
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String baseKey;
+        private final HttpHeaders requestHeaders;
+        private final Config config;
+
+        CachingResponse(ServerHttpResponse delegate, String baseKey, HttpHeaders requestHeaders, Config config) {
+            super(delegate);
+            this.baseKey = baseKey;
+            this.requestHeaders = requestHeaders;
+            this.config = config;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            if (status == null || ttlMillis(status, getHeaders(), config) <= 0
+                    || getHeaders().getContentLength() > store.getMaxEntryBytes()) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(body)
+                    .defaultIfEmpty(bufferFactory().wrap(new byte[0]))
+                    .flatMap(joined -> {
+                        if (joined.readableByteCount() <= store.getMaxEntryBytes()) {
+                            byte[] bytes = new byte[joined.readableByteCount()];
+                            int readPosition = joined.readPosition();
+                            joined.read(bytes);
+                            joined.readPosition(readPosition);
+                            storeIfCacheable(baseKey, requestHeaders, status, getHeaders(), bytes, config);
+                        }
+                        return super.writeWith(Mono.just(joined));
+                    });
+        }
+    }
+
+    @Data
+    public static class Config {
+        private Duration ttl = Duration.ofSeconds(30);
+        private Duration staleWhileRevalidate = Duration.ofSeconds(60);
+        private boolean anonymous = false;
+    }
+}
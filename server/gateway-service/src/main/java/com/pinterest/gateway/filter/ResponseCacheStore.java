@@ -0,0 +1,113 @@
+package com.pinterest.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Least-recently-used store of cached response bodies bounded by their total size in bytes.
+ * Bodies are copied out of the pooled Netty buffers they arrive in, so nothing here holds on to
+ * a buffer that the connection will reuse.
+ *
+ * <p>The {@code Vary} header names last seen for a path are kept separately, so a lookup can build
+ * the variant key before any response for that request exists.
+ */
+@Component
+public class ResponseCacheStore {
+
+    private static final int MAX_VARY_KEYS = 10000;
+
+    private final long maxBytes;
+    private final int maxEntryBytes;
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, List<String>> varyNames = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+            return size() > MAX_VARY_KEYS;
+        }
+    };
+    private long usedBytes;
+
+    private final Counter evictions;
+
+    public ResponseCacheStore(@Value("${gateway.response-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${gateway.response-cache.max-entry-bytes:2097152}") int maxEntryBytes,
+            MeterRegistry meterRegistry) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+
+        this.evictions = Counter.builder("gateway.response.cache.evictions").register(meterRegistry);
+        Gauge.builder("gateway.response.cache.bytes", this, ResponseCacheStore::usedBytes).register(meterRegistry);
+        Gauge.builder("gateway.response.cache.entries", this, ResponseCacheStore::size).register(meterRegistry);
+    }
+
+    public int getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public synchronized List<String> varyNames(String baseKey) {
+        return varyNames.getOrDefault(baseKey, List.of());
+    }
+
+    public synchronized CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.getStaleUntil() <= System.currentTimeMillis()) {
+            remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    public synchronized void put(String baseKey, String key, CachedResponse response) {
+        if (response.getBody().length > maxEntryBytes) {
+            return;
+        }
+        varyNames.put(baseKey, response.getVary());
+        remove(key);
+        entries.put(key, response);
+        usedBytes += response.getBody().length;
+
+        Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().getValue().getBody().length;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            usedBytes -= removed.getBody().length;
+        }
+    }
+
+    private synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedResponse {
+        private final byte[] body;
+        private final HttpHeaders headers;
+        private final List<String> vary;
+        private final long storedAt;
+        private final long freshUntil;
+        private final long staleUntil;
+    }
+}
@@ -0,0 +1,232 @@
+package com.pinterest.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collapses concurrent identical GET requests into one upstream call. The first request of a key
+ * goes upstream as usual while its buffered response is handed to every request that arrived for
+ * the same key in the meantime.
+ *
+ * <p>The key covers the route, path, query, the caller's credentials (unless the route shares
+ * responses across users) and the headers that select a representation. Followers past
+ * {@code maxWaiters}, followers that wait longer than {@code maxWait}, and followers of a response
+ * larger than {@code maxBodyBytes} or one that sets a cookie make their own upstream call instead.
+ */
+@Component
+public class SingleFlightGatewayFilterFactory extends AbstractGatewayFilterFactory<SingleFlightGatewayFilterFactory.Config> {
+
+    private static final List<String> USER_HEADERS = List.of(
+            HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE, "X-User-Id");
+    private static final List<String> REPRESENTATION_HEADERS = List.of(
+            HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE,
+            HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+    private static final Set<String> UNSHARED_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "te", "trailer", "upgrade", "content-length");
+
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("gateway.single.flight.in.flight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String routeId = routeId(exchange);
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            String key = key(routeId, request, config);
+            Flight flight = new Flight();
+            Flight leader = inFlight.putIfAbsent(key, flight);
+            if (leader == null) {
+                count(routeId, "leader");
+                ServerHttpResponse response = new RecordingResponse(exchange.getResponse(), key, flight, config);
+                return chain.filter(exchange.mutate().response(response).build())
+                        .doFinally(signal -> flight.settle(key, null));
+            }
+
+            if (leader.waiters.incrementAndGet() > config.getMaxWaiters()) {
+                count(routeId, "overflow");
+                return chain.filter(exchange);
+            }
+            count(routeId, "coalesced");
+            return leader.result.asMono()
+                    .timeout(config.getMaxWait(), Mono.empty())
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(shared -> shared.isPresent()
+                            ? write(exchange, shared.get())
+                            : fallback(exchange, chain, routeId));
+        };
+    }
+
+    private Mono<Void> fallback(ServerWebExchange exchange, GatewayFilterChain chain, String routeId) {
+        count(routeId, "fallback");
+        return chain.filter(exchange);
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, SharedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(shared.getStatus());
+        HttpHeaders headers = response.getHeaders();
+        shared.getHeaders().forEach((name, values) -> headers.put(name, new ArrayList<>(values)));
+        headers.setContentLength(shared.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.getBody())));
+    }
+
+    private static String key(String routeId, ServerHttpRequest request, Config config) {
+        StringBuilder key = new StringBuilder(routeId).append(' ').append(request.getURI().getRawPath());
+        if (request.getURI().getRawQuery() != null) {
+            key.append('?').append(request.getURI().getRawQuery());
+        }
+        HttpHeaders headers = request.getHeaders();
+        if (config.isPerUser()) {
+            appendHeaders(key, USER_HEADERS, headers);
+        }
+        appendHeaders(key, REPRESENTATION_HEADERS, headers);
+        return key.toString();
+    }
+
+    private static void appendHeaders(StringBuilder key, List<String> names, HttpHeaders headers) {
+        for (String name : names) {
+            List<String> values = headers.get(name);
+            if (values != null) {
+                key.append('\n').append(name).append('=').append(String.join(",", values));
+            }
+        }
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private void count(String routeId, String result) {
+        counters.computeIfAbsent(routeId + ":" + result, ignored -> Counter.builder("gateway.single.flight.requests")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    private final class Flight {
+        private final Sinks.One<SharedResponse> result = Sinks.one();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        // An empty result sends the waiters upstream themselves.
+        void settle(String key, SharedResponse response) {
+            inFlight.remove(key, this);
+            if (response != null) {
+                result.tryEmitValue(response);
+            } else {
+                result.tryEmitEmpty();
+            }
+        }
+    }
+
+    /** Buffers the leader's response so it can be replayed to the waiters. */
+    private final class RecordingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final Flight flight;
+        private final Config config;
+
+        RecordingResponse(ServerHttpResponse delegate, String key, Flight flight, Config config) {
+            super(delegate);
+            this.key = key;
+            this.flight = flight;
+            this.config = config;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            if (status == null || getHeaders().containsKey(HttpHeaders.SET_COOKIE)
+                    || getHeaders().getContentLength() > config.getMaxBodyBytes()) {
+                flight.settle(key, null);
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(body)
+                    .defaultIfEmpty(bufferFactory().wrap(new byte[0]))
+                    .flatMap(joined -> {
+                        SharedResponse shared = null;
+                        if (joined.readableByteCount() <= config.getMaxBodyBytes()) {
+                            byte[] bytes = new byte[joined.readableByteCount()];
+                            int readPosition = joined.readPosition();
+                            joined.read(bytes);
+                            joined.readPosition(readPosition);
+                            shared = new SharedResponse(status, sharedHeaders(getHeaders()), bytes);
+                        }
+                        flight.settle(key, shared);
+                        return super.writeWith(Mono.just(joined));
+                    });
+        }
+
+        private HttpHeaders sharedHeaders(HttpHeaders headers) {
+            HttpHeaders shared = new HttpHeaders();
+            headers.forEach((name, values) -> {
+                String lower = name.toLowerCase(Locale.ROOT);
+                if (!UNSHARED_HEADERS.contains(lower) && !lower.startsWith("access-control-")) {
+                    shared.put(name, new ArrayList<>(values));
+                }
+            });
+            return HttpHeaders.readOnlyHttpHeaders(shared);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class SharedResponse {
+        private final HttpStatusCode status;
+        private final HttpHeaders headers;
+        private final byte[] body;
+    }
+
+    @Data
+    public static class Config {
+        private boolean perUser = true;
+        private int maxWaiters = 1000;
+        private int maxBodyBytes = 1048576;
+        private Duration maxWait = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,211 @@
+package com.pinterest.gateway.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.pinterest.gateway.dto.ProfilePageResponse;
+import com.pinterest.gateway.security.JwtTokenVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the profile page in one round trip: the user, their pins and boards, the viewer's own
+ * drafts, connection counts and whether the viewer follows the user are fetched in parallel.
+ * Each leg has its own timeout; a leg that fails or times out is left out of the document and
+ * named in {@code unavailable}, except the user leg answering 400 or 404, which makes the page a 404.
+ *
+ * <p>The viewer is taken from a verified bearer token, never from a client-supplied
+ * {@code X-User-Id}, since drafts are only fetched for the viewer's own profile.
+ */
+@Component
+@Slf4j
+public class ProfilePageHandler {
+
+    private static final String AUTH_SERVICE = "http://user-authentication-service";
+    private static final String CONTENT_SERVICE = "http://content-service";
+    private static final String COLLABORATION_SERVICE = "http://collaboration-service";
+    private static final CacheControl PROFILE_PAGE_CACHE = CacheControl.noCache().cachePrivate();
+
+    private final WebClient webClient;
+    private final JwtTokenVerifier tokenVerifier;
+    private final MeterRegistry meterRegistry;
+    private final Duration legTimeout;
+
+    public ProfilePageHandler(@LoadBalanced WebClient.Builder webClientBuilder,
+            JwtTokenVerifier tokenVerifier,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.bff.leg-timeout:2s}") Duration legTimeout,
+            @Value("${gateway.bff.max-leg-bytes:4194304}") int maxLegBytes) {
+        this.webClient = webClientBuilder.clone()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxLegBytes))
+                .build();
+        this.tokenVerifier = tokenVerifier;
+        this.meterRegistry = meterRegistry;
+        this.legTimeout = legTimeout;
+    }
+
+    public Mono<ServerResponse> getProfilePage(ServerRequest request) {
+        long userId;
+        try {
+            userId = Long.parseLong(request.pathVariable("userId"));
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+
+        String authorization = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        Long viewerId = viewerId(authorization);
+        HttpHeaders forwarded = new HttpHeaders();
+        if (viewerId != null) {
+            forwarded.set(HttpHeaders.AUTHORIZATION, authorization);
+            forwarded.set("X-User-Id", viewerId.toString());
+        }
+        boolean ownProfile = viewerId != null && viewerId == userId;
+
+        Mono<Leg> user = fetch("user", AUTH_SERVICE + "/api/auth/profile/" + userId, forwarded);
+        Mono<Leg> pins = fetch("pins", CONTENT_SERVICE + "/api/content/pins/user/" + userId, forwarded);
+        Mono<Leg> boards = fetch("boards", CONTENT_SERVICE + "/api/content/boards/user/" + userId, forwarded);
+        Mono<Leg> drafts = ownProfile
+                ? fetch("drafts", CONTENT_SERVICE + "/api/content/pins/drafts", forwarded)
+                : Mono.just(Leg.SKIPPED);
+        Mono<Leg> counts = fetch("counts", COLLABORATION_SERVICE + "/api/collaboration/connections/counts/" + userId,
+                forwarded);
+        Mono<Leg> follows = viewerId != null && !ownProfile
+                ? fetch("viewerFollows", COLLABORATION_SERVICE + "/api/collaboration/connections/is-following"
+                        + "?followerId=" + viewerId + "&followingId=" + userId, forwarded)
+                : Mono.just(Leg.SKIPPED);
+
+        return Mono.zip(user, pins, boards, drafts, counts, follows).flatMap(legs -> {
+            // auth-service reports an unknown user as a 400 CustomException.
+            if (legs.getT1().status == 400 || legs.getT1().status == 404) {
+                return ServerResponse.notFound().build();
+            }
+            List<String> unavailable = new ArrayList<>();
+            for (Leg leg : List.of(legs.getT1(), legs.getT2(), legs.getT3(), legs.getT4(), legs.getT5(), legs.getT6())) {
+                if (leg.failed) {
+                    unavailable.add(leg.name);
+                }
+            }
+
+            ProfilePageResponse page = new ProfilePageResponse();
+            page.setUser(compactUser(legs.getT1().body, ownProfile));
+            page.setPins(stripNulls(legs.getT2().body));
+            page.setBoards(compactBoards(legs.getT3().body));
+            page.setDrafts(stripNulls(legs.getT4().body));
+            JsonNode connectionCounts = legs.getT5().body;
+            if (connectionCounts != null) {
+                page.setFollowersCount(connectionCounts.path("followersCount").asLong());
+                page.setFollowingCount(connectionCounts.path("followingCount").asLong());
+            }
+            if (legs.getT6().body != null) {
+                page.setViewerFollows(legs.getT6().body.asBoolean());
+            }
+            page.setUnavailable(unavailable.isEmpty() ? null : unavailable);
+
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(PROFILE_PAGE_CACHE)
+                    .bodyValue(page);
+        });
+    }
+
+    private Mono<Leg> fetch(String name, String uri, HttpHeaders forwarded) {
+        return webClient.get()
+                .uri(uri)
+                .headers(headers -> headers.addAll(forwarded))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(legTimeout)
+                .map(body -> new Leg(name, body, false, 200))
+                .defaultIfEmpty(new Leg(name, null, false, 200))
+                .onErrorResume(e -> {
+                    int status = e instanceof WebClientResponseException response ? response.getStatusCode().value() : 0;
+                    log.debug("Profile page leg {} failed: {}", name, e.toString());
+                    meterRegistry.counter("gateway.bff.leg.failures", "page", "profile", "leg", name).increment();
+                    return Mono.just(new Leg(name, null, true, status));
+                });
+    }
+
+    private Long viewerId(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return Long.valueOf(tokenVerifier.verify(authorization.substring(7)).getUserId());
+        } catch (Exception e) {
+            log.debug("Ignoring invalid token on profile page: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // Contact details are only returned to the profile's owner.
+    private static JsonNode compactUser(JsonNode user, boolean ownProfile) {
+        JsonNode compact = stripNulls(user);
+        if (compact instanceof ObjectNode object && !ownProfile) {
+            object.remove(List.of("email", "mobileNumber"));
+        }
+        return compact;
+    }
+
+    // Board cards only need the cover and pin count, not every pin on the board.
+    private static JsonNode compactBoards(JsonNode boards) {
+        JsonNode compact = stripNulls(boards);
+        if (compact instanceof ArrayNode array) {
+            array.forEach(board -> {
+                if (board instanceof ObjectNode object) {
+                    object.remove("pins");
+                }
+            });
+        }
+        return compact;
+    }
+
+    private static JsonNode stripNulls(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                JsonNode value = fields.next().getValue();
+                if (value.isNull()) {
+                    fields.remove();
+                } else {
+                    stripNulls(value);
+                }
+            }
+        } else if (node instanceof ArrayNode array) {
+            array.forEach(ProfilePageHandler::stripNulls);
+        }
+        return node;
+    }
+
+    private static final class Leg {
+        private static final Leg SKIPPED = new Leg("skipped", null, false, 0);
+
+        private final String name;
+        private final JsonNode body;
+        private final boolean failed;
+        private final int status;
+
+        Leg(String name, JsonNode body, boolean failed, int status) {
+            this.name = name;
+            this.body = body;
+            this.failed = failed;
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.pinterest.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks outstanding requests and a peak-sensitive EWMA of response time for every load-balanced
+ * instance. Gateway routes and the load-balanced {@code WebClient} both report through the
+ * {@link LoadBalancerLifecycle} callbacks, so every request that picked an instance is counted.
+ *
+ * <p>A sample above the current average replaces it outright, so a replica that starts pausing is
+ * avoided immediately, while the average decays towards zero between samples so an avoided
+ * replica is tried again once it has been quiet for a while.
+ */
+@Component
+public class InstanceLoadStats implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private static final long UNKNOWN_LATENCY_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long ABANDONED_REQUEST_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final double decayNanos;
+
+    public InstanceLoadStats(MeterRegistry meterRegistry,
+            @Value("${gateway.loadbalancer.decay:10s}") Duration decay) {
+        this.meterRegistry = meterRegistry;
+        this.decayNanos = decay.toNanos();
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse.hasServer()) {
+            statsFor(lbResponse.getServer()).inFlight.put(new RequestKey(request), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        Stats instanceStats = statsFor(lbResponse.getServer());
+        Long started = instanceStats.inFlight.remove(new RequestKey(completionContext.getLoadBalancerRequest()));
+        if (started == null) {
+            return;
+        }
+        long latency = System.nanoTime() - started;
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED
+                || completionContext.getClientResponse() instanceof ResponseData response
+                && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError();
+
+        instanceStats.observe(failed ? Math.max(latency, FAILURE_PENALTY_NANOS) : latency);
+        (failed ? instanceStats.failures : instanceStats.successes).record(latency, TimeUnit.NANOSECONDS);
+    }
+
+    /** Lower is better: expected latency scaled by the queue the next request would join. */
+    public double cost(ServiceInstance instance) {
+        Stats instanceStats = statsFor(instance);
+        int outstanding = instanceStats.inFlight.size();
+        double ewma = instanceStats.decayedEwma();
+        if (ewma == 0 && outstanding > 0) {
+            return UNKNOWN_LATENCY_PENALTY_NANOS + outstanding;
+        }
+        return ewma * (outstanding + 1);
+    }
+
+    /**
+     * Forgets instances of the service that are no longer registered and requests that never
+     * reported completion, such as ones cancelled by a disconnecting client.
+     */
+    public void retain(String serviceId, List<ServiceInstance> instances) {
+        Set<String> current = new HashSet<>();
+        instances.forEach(instance -> current.add(key(instance)));
+        long abandonedBefore = System.nanoTime() - ABANDONED_REQUEST_NANOS;
+
+        stats.entrySet().removeIf(entry -> {
+            Stats instanceStats = entry.getValue();
+            if (instanceStats.serviceId.equals(serviceId) && !current.contains(entry.getKey())) {
+                instanceStats.meters.forEach(meterRegistry::remove);
+                return true;
+            }
+            instanceStats.inFlight.values().removeIf(started -> started < abandonedBefore);
+            return false;
+        });
+    }
+
+    private Stats statsFor(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), ignored -> new Stats(instance));
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "/" + instance.getHost() + ":" + instance.getPort();
+    }
+
+    private final class Stats {
+        private final String serviceId;
+        private final Map<RequestKey, Long> inFlight = new ConcurrentHashMap<>();
+        private final Timer successes;
+        private final Timer failures;
+        private final List<Meter> meters;
+
+        private double ewmaNanos;
+        private long stampNanos = System.nanoTime();
+
+        Stats(ServiceInstance instance) {
+            this.serviceId = instance.getServiceId();
+            Tags tags = Tags.of("service", serviceId, "instance", instance.getHost() + ":" + instance.getPort());
+            this.successes = Timer.builder("gateway.lb.instance.latency").tags(tags).tag("outcome", "success")
+                    .register(meterRegistry);
+            this.failures = Timer.builder("gateway.lb.instance.latency").tags(tags).tag("outcome", "failure")
+                    .register(meterRegistry);
+            this.meters = List.of(
+                    successes,
+                    failures,
+                    Gauge.builder("gateway.lb.instance.outstanding", inFlight, Map::size).tags(tags)
+                            .register(meterRegistry),
+                    Gauge.builder("gateway.lb.instance.ewma", this, s -> s.peekEwmaNanos() / 1e6).tags(tags)
+                            .baseUnit("milliseconds").register(meterRegistry));
+        }
+
+        synchronized void observe(double sampleNanos) {
+            long now = System.nanoTime();
+            double weight = Math.exp(-Math.max(now - stampNanos, 0) / decayNanos);
+            ewmaNanos = sampleNanos > ewmaNanos ? sampleNanos : ewmaNanos * weight + sampleNanos * (1 - weight);
+            stampNanos = now;
+        }
+
+        synchronized double decayedEwma() {
+            observe(0);
+            return ewmaNanos;
+        }
+
+        synchronized double peekEwmaNanos() {
+            return ewmaNanos;
+        }
+    }
+
+    // Request contexts compare by value, so two identical GETs would otherwise share an entry.
+    private static final class RequestKey {
+        private final Object request;
+
+        RequestKey(Object request) {
+            this.request = request;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof RequestKey key && key.request == request;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(request);
+        }
+    }
+}
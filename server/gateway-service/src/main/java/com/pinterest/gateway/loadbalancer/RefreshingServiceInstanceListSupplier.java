@@ -0,0 +1,82 @@
+package com.pinterest.gateway.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves the last instance list fetched from discovery and refreshes it in the background, so
+ * requests never wait on Consul after the first lookup. A refresh that fails or comes back empty
+ * keeps the previous list rather than leaving the service with no instances at all.
+ */
+@Slf4j
+public class RefreshingServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+    private final Duration refreshInterval;
+    private final InstanceLoadStats loadStats;
+    private final AtomicReference<List<ServiceInstance>> instances = new AtomicReference<>();
+    private Disposable refresher;
+
+    public RefreshingServiceInstanceListSupplier(ServiceInstanceListSupplier delegate, Duration refreshInterval,
+            InstanceLoadStats loadStats) {
+        super(delegate);
+        this.refreshInterval = refreshInterval;
+        this.loadStats = loadStats;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        List<ServiceInstance> current = instances.get();
+        return current != null ? Flux.just(current) : refresh().flux();
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get(Request request) {
+        return get();
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(e -> {
+                    log.warn("Refreshing instances of {} failed: {}", getServiceId(), e.getMessage());
+                    return Mono.empty();
+                }), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+        super.destroy();
+    }
+
+    private Mono<List<ServiceInstance>> refresh() {
+        return getDelegate().get()
+                .next()
+                .timeout(refreshInterval)
+                .map(fetched -> {
+                    List<ServiceInstance> previous = instances.get();
+                    if (fetched.isEmpty() && previous != null) {
+                        return previous;
+                    }
+                    List<ServiceInstance> current = List.copyOf(fetched);
+                    instances.set(current);
+                    loadStats.retain(getServiceId(), current);
+                    return current;
+                });
+    }
+}
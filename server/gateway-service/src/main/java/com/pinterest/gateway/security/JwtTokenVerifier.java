@@ -0,0 +1,126 @@
+package com.pinterest.gateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies bearer tokens with a signing key and parser built once at startup, and remembers
+ * verified tokens until their own expiry so a repeated token skips signature verification.
+ */
+@Component
+public class JwtTokenVerifier {
+
+    private final JwtParser parser;
+    private final int maxCachedTokens;
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Timer verifyTimer;
+
+    public JwtTokenVerifier(@Value("${jwt.secret}") String secret,
+            @Value("${jwt.cache.max-entries:10000}") int maxCachedTokens,
+            MeterRegistry meterRegistry) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.maxCachedTokens = maxCachedTokens;
+
+        this.cacheHits = Counter.builder("gateway.jwt.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.cacheMisses = Counter.builder("gateway.jwt.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.verifyTimer = Timer.builder("gateway.jwt.verify")
+                .description("Time spent verifying JWT signatures on cache misses")
+                .register(meterRegistry);
+        Gauge.builder("gateway.jwt.cache.size", verifiedTokens, Map::size).register(meterRegistry);
+    }
+
+    public VerifiedToken verify(String token) {
+        String cacheKey = fingerprint(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(cacheKey);
+        if (cached != null) {
+            if (cached.getExpiresAtMillis() > now) {
+                cacheHits.increment();
+                return cached;
+            }
+            verifiedTokens.remove(cacheKey, cached);
+        }
+        cacheMisses.increment();
+
+        long started = System.nanoTime();
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } finally {
+            verifyTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+
+        Long userId = claims.get("userId", Long.class);
+        if (userId == null) {
+            throw new MalformedJwtException("Token has no userId claim");
+        }
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(userId.toString(), claims.getSubject(),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+
+        // Tokens without an expiry are verified every time rather than trusted indefinitely.
+        if (expiration != null) {
+            makeRoom(now);
+            verifiedTokens.put(cacheKey, verified);
+        }
+        return verified;
+    }
+
+    private void makeRoom(long now) {
+        if (verifiedTokens.size() < maxCachedTokens) {
+            return;
+        }
+        verifiedTokens.values().removeIf(entry -> entry.getExpiresAtMillis() <= now);
+
+        int excess = verifiedTokens.size() - maxCachedTokens + Math.max(1, maxCachedTokens / 10);
+        Iterator<String> keys = verifiedTokens.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String fingerprint(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class VerifiedToken {
+        private String userId;
+        private String email;
+        private long expiresAtMillis;
+    }
+}
@@ -2,12 +2,19 @@ package com.pinterest.auth.controller;
 
 import com.pinterest.auth.dto.*;
 import com.pinterest.auth.service.UserService;
+import com.pinterest.auth.util.ETags;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,6 +27,9 @@ public class AuthController {
 
     private final UserService userService;
 
+    private static final CacheControl VERSIONED_AVATAR_CACHE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    private static final CacheControl AVATAR_CACHE = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+
     @PostMapping({ "/register", "/register/" })
     @Operation(summary = "Register a new user")
     public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request) {
@@ -66,10 +76,56 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/users/autocomplete")
+    @Operation(summary = "Suggest users by username or email prefix")
+    public ResponseEntity<List<UserSummaryResponse>> autocompleteUsers(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<UserSummaryResponse> response = userService.autocompleteUsers(prefix, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/users/batch")
     @Operation(summary = "Get users by IDs")
     public ResponseEntity<List<UserResponse>> getUsersByIds(@RequestBody List<Long> userIds) {
         List<UserResponse> response = userService.getUsersByIds(userIds);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/users/summaries")
+    @Operation(summary = "Get lightweight user summaries by IDs, with avatar thumbnail URLs instead of avatar data")
+    public ResponseEntity<List<UserSummaryResponse>> getUserSummaries(@RequestBody List<Long> userIds) {
+        List<UserSummaryResponse> response = userService.getUserSummaries(userIds);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/users/{userId}/avatar")
+    @Operation(summary = "Get a thumbnail of the user's avatar")
+    public ResponseEntity<byte[]> getAvatarThumbnail(
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "v", required = false) String version,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<String> etag = userService.getAvatarETag(userId);
+        if (etag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        CacheControl cacheControl = version != null ? VERSIONED_AVATAR_CACHE : AVATAR_CACHE;
+        if (ETags.matches(ifNoneMatch, etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).cacheControl(cacheControl).build();
+        }
+
+        Optional<AvatarImage> avatar = userService.getAvatarThumbnail(userId, etag.get());
+        if (avatar.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (avatar.get().getRedirectUrl() != null) {
+            return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(avatar.get().getRedirectUrl())).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag.get())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(avatar.get().getContentType()))
+                .header("X-Content-Type-Options", "nosniff")
+                .body(avatar.get().getData());
+    }
 }
@@ -0,0 +1,14 @@
+package com.pinterest.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvatarImage {
+    private byte[] data;
+    private String contentType;
+    private String redirectUrl;
+}
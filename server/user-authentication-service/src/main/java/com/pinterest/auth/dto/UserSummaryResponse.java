@@ -0,0 +1,41 @@
+package com.pinterest.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResponse {
+    private Long id;
+    private String username;
+    private String firstName;
+    private String lastName;
+    private String displayName;
+    private String avatarUrl;
+
+    public UserSummaryResponse(Long id, String username, String firstName, String lastName) {
+        this(id, username, firstName, lastName, toDisplayName(username, firstName, lastName), null);
+    }
+
+    public UserSummaryResponse(Long id, String username, String firstName, String lastName,
+                               Boolean hasAvatar, LocalDateTime updatedAt) {
+        this(id, username, firstName, lastName, toDisplayName(username, firstName, lastName),
+                Boolean.TRUE.equals(hasAvatar) ? toAvatarUrl(id, updatedAt) : null);
+    }
+
+    public static String toDisplayName(String username, String firstName, String lastName) {
+        String fullName = ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+        return fullName.isEmpty() ? username : fullName;
+    }
+
+    // Versioned by updatedAt so the thumbnail can be cached as immutable.
+    public static String toAvatarUrl(Long id, LocalDateTime updatedAt) {
+        String url = "/api/auth/users/" + id + "/avatar";
+        return updatedAt != null ? url + "?v=" + Timestamp.valueOf(updatedAt).getTime() : url;
+    }
+}
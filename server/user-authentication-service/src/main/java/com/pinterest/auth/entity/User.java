@@ -51,10 +51,19 @@ public class User {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        normalizeAvatar();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        normalizeAvatar();
+    }
+
+    // A cleared avatar is stored as NULL so the summary queries never have to read the LONGTEXT.
+    private void normalizeAvatar() {
+        if (avatar != null && avatar.isBlank()) {
+            avatar = null;
+        }
     }
 }
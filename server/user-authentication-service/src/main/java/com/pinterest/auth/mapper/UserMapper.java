@@ -0,0 +1,11 @@
+package com.pinterest.auth.mapper;
+
+import com.pinterest.auth.dto.UserResponse;
+import com.pinterest.auth.entity.User;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface UserMapper {
+
+    UserResponse toResponse(User user);
+}
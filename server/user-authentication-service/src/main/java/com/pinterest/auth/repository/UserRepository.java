@@ -1,9 +1,15 @@
 package com.pinterest.auth.repository;
 
+import com.pinterest.auth.dto.UserSummaryResponse;
 import com.pinterest.auth.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +24,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByUsername(String username);
+
+    @Query("SELECT new com.pinterest.auth.dto.UserSummaryResponse(u.id, u.username, u.firstName, u.lastName, " +
+            "CASE WHEN u.avatar IS NULL THEN false ELSE true END, u.updatedAt) " +
+            "FROM User u WHERE u.id IN :ids")
+    List<UserSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.updatedAt FROM User u WHERE u.id = :id AND u.avatar IS NOT NULL")
+    Optional<LocalDateTime> findAvatarUpdatedAtById(@Param("id") Long id);
+
+    @Query("SELECT u.avatar FROM User u WHERE u.id = :id")
+    Optional<String> findAvatarById(@Param("id") Long id);
+
+    @Query("SELECT new com.pinterest.auth.dto.UserSummaryResponse(u.id, u.username, u.firstName, u.lastName) " +
+            "FROM User u WHERE u.username LIKE CONCAT(:prefix, '%') ESCAPE '\\\\' ORDER BY u.username")
+    List<UserSummaryResponse> findSummariesByUsernamePrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    @Query("SELECT u.id, u.username, u.email, u.firstName, u.lastName FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Object[]> findAutocompleteFields(@Param("afterId") Long afterId, Pageable pageable);
 }
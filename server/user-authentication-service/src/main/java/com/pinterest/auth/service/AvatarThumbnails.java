@@ -0,0 +1,162 @@
+package com.pinterest.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pinterest.auth.dto.AvatarImage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Downscaled avatars for lists such as comment feeds, where the stored avatar (often a full-size
+ * data URL) is far larger than the 32px it is drawn at. Thumbnails are keyed by the avatar version,
+ * so an updated avatar simply misses and the old entry ages out.
+ */
+@Component
+@Slf4j
+public class AvatarThumbnails {
+
+    private static final Pattern DATA_URL = Pattern.compile("^data:([\\w.+-]+/[\\w.+-]+)?((?:;[^;,]*)*?);base64,");
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    // Raster formats only; SVG and anything else a browser could execute is served as a download.
+    private static final Set<String> SAFE_CONTENT_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final Cache<String, AvatarImage> thumbnails;
+    private final int maxDimension;
+    private final long maxSourcePixels;
+
+    public AvatarThumbnails(@Value("${auth.avatar-thumbnails.max-bytes:16777216}") long maxBytes,
+            @Value("${auth.avatar-thumbnails.size-px:96}") int maxDimension,
+            @Value("${auth.avatar-thumbnails.max-source-pixels:40000000}") long maxSourcePixels,
+            MeterRegistry meterRegistry) {
+        this.maxDimension = maxDimension;
+        this.maxSourcePixels = maxSourcePixels;
+        this.thumbnails = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, AvatarImage image) ->
+                        ENTRY_OVERHEAD_BYTES + (image.getData() != null ? image.getData().length : 0))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, thumbnails, "auth.avatar-thumbnails");
+    }
+
+    /** Returns null when there is no usable avatar. Misses read the stored avatar through {@code avatar}. */
+    public AvatarImage get(Long userId, String version, Supplier<String> avatar) {
+        return thumbnails.get(userId + ":" + version, key -> {
+            String stored = avatar.get();
+            return stored == null || stored.isBlank() ? null : toThumbnail(stored);
+        });
+    }
+
+    private AvatarImage toThumbnail(String avatar) {
+        if (avatar.startsWith("http://") || avatar.startsWith("https://")) {
+            return new AvatarImage(null, null, avatar);
+        }
+        Matcher matcher = DATA_URL.matcher(avatar);
+        if (!avatar.startsWith("data:") || !matcher.find()) {
+            return null;
+        }
+        byte[] data;
+        try {
+            data = Base64.getMimeDecoder().decode(avatar.substring(matcher.end()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Stored avatar is not valid base64: {}", e.getMessage());
+            return null;
+        }
+        String contentType = safeContentType(matcher.group(1));
+
+        try {
+            byte[] thumbnail = thumbnail(data);
+            return thumbnail != null ? new AvatarImage(thumbnail, "image/png", null) : new AvatarImage(data, contentType, null);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not thumbnail avatar, serving it as stored: {}", e.getMessage());
+            return new AvatarImage(data, contentType, null);
+        }
+    }
+
+    /**
+     * Returns null when the avatar should be served as stored: formats ImageIO cannot decode (SVG,
+     * WebP), images that are already small, and images declaring more than {@code maxSourcePixels}.
+     * The dimensions are read from the header before anything is decoded, and large images are
+     * decoded subsampled, so a small file declaring huge dimensions never allocates its full bitmap.
+     */
+    private byte[] thumbnail(byte[] data) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int longest = Math.max(width, height);
+                if (longest <= maxDimension) {
+                    return null;
+                }
+                if ((long) width * height > maxSourcePixels) {
+                    log.warn("Not thumbnailing a {}x{} avatar, over the {} pixel limit", width, height, maxSourcePixels);
+                    return null;
+                }
+                // Keep about twice the target resolution for the final smooth scale.
+                int step = Math.max(1, longest / (maxDimension * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return scale(reader.read(0, param));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static String safeContentType(String contentType) {
+        if (contentType == null) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+        String normalized = contentType.toLowerCase(Locale.ROOT);
+        return SAFE_CONTENT_TYPES.contains(normalized) ? normalized : DEFAULT_CONTENT_TYPE;
+    }
+
+    private byte[] scale(BufferedImage source) throws IOException {
+        double ratio = (double) maxDimension / Math.max(source.getWidth(), source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(target, "png", out);
+        return out.toByteArray();
+    }
+}
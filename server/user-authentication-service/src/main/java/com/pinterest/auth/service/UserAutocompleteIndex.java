@@ -0,0 +1,233 @@
+package com.pinterest.auth.service;
+
+import com.pinterest.auth.dto.UserSummaryResponse;
+import com.pinterest.auth.entity.User;
+import com.pinterest.auth.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sorted in-memory map from lowercased usernames and email local-parts to user ids. A prefix
+ * lookup is a walk over the tail map starting at the prefix, so keys closest to the prefix come
+ * first and the walk stops as soon as enough users are found.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserAutocompleteIndex {
+
+    private static final int MAX_PREFIX_LENGTH = 64;
+    private static final int MAX_KEYS_SCANNED = 2000;
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final UserRepository userRepository;
+
+    private final TreeMap<String, long[]> keys = new TreeMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            keys.clear();
+            entries.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long afterId = 0L;
+        int indexed = 0;
+        List<Object[]> rows;
+        do {
+            rows = userRepository.findAutocompleteFields(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    Long id = (Long) row[0];
+                    addEntry(id, (String) row[1], (String) row[2], (String) row[3], (String) row[4]);
+                    afterId = id;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            indexed += rows.size();
+        } while (rows.size() == REBUILD_BATCH_SIZE);
+
+        ready = true;
+        log.info("User autocomplete index rebuilt: {} users, {} keys in {} ms",
+                indexed, keyCount(), System.currentTimeMillis() - started);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(User user) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(user.getId());
+            addEntry(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(), user.getLastName());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} users whose username or email local-part starts with the prefix,
+     * ordered by the matching key.
+     */
+    public List<UserSummaryResponse> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (key.length() > MAX_PREFIX_LENGTH) {
+            key = key.substring(0, MAX_PREFIX_LENGTH);
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = new LinkedHashSet<>();
+            int scanned = 0;
+            for (Map.Entry<String, long[]> entry : keys.tailMap(key, true).entrySet()) {
+                if (!entry.getKey().startsWith(key) || scanned++ >= MAX_KEYS_SCANNED) {
+                    break;
+                }
+                for (long id : entry.getValue()) {
+                    ids.add(id);
+                    if (ids.size() == limit) {
+                        return toSummaries(ids);
+                    }
+                }
+            }
+            return toSummaries(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<UserSummaryResponse> toSummaries(Set<Long> ids) {
+        List<UserSummaryResponse> summaries = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Entry entry = entries.get(id);
+            summaries.add(new UserSummaryResponse(id, entry.username, entry.firstName, entry.lastName));
+        }
+        return summaries;
+    }
+
+    private void addEntry(Long id, String username, String email, String firstName, String lastName) {
+        Set<String> userKeys = new LinkedHashSet<>(2);
+        String usernameKey = normalize(username);
+        if (!usernameKey.isEmpty()) {
+            userKeys.add(usernameKey);
+        }
+        String localPartKey = normalize(localPart(email));
+        if (!localPartKey.isEmpty()) {
+            userKeys.add(localPartKey);
+        }
+        for (String userKey : userKeys) {
+            keys.merge(userKey, new long[]{id}, UserAutocompleteIndex::insert);
+        }
+        entries.put(id, new Entry(username, firstName, lastName, userKeys.toArray(new String[0])));
+    }
+
+    private void removeEntry(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String userKey : entry.keys) {
+            long[] ids = keys.get(userKey);
+            if (ids == null) {
+                continue;
+            }
+            long[] remaining = remove(ids, id);
+            if (remaining.length == 0) {
+                keys.remove(userKey);
+            } else {
+                keys.put(userKey, remaining);
+            }
+        }
+    }
+
+    private int keyCount() {
+        lock.readLock().lock();
+        try {
+            return keys.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String localPart(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        return at >= 0 ? email.substring(0, at) : email;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Ids sharing a key are few (usually one), so sorted copy-on-write arrays are enough.
+    private static long[] insert(long[] ids, long[] added) {
+        long id = added[0];
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int insertAt = -index - 1;
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, insertAt);
+        result[insertAt] = id;
+        System.arraycopy(ids, insertAt, result, insertAt + 1, ids.length - insertAt);
+        return result;
+    }
+
+    private static long[] remove(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, index);
+        System.arraycopy(ids, index + 1, result, index, ids.length - index - 1);
+        return result;
+    }
+
+    private static final class Entry {
+        private final String username;
+        private final String firstName;
+        private final String lastName;
+        private final String[] keys;
+
+        Entry(String username, String firstName, String lastName, String[] keys) {
+            this.username = username;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.keys = keys;
+        }
+    }
+}
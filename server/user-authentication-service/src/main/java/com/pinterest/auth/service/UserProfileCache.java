@@ -0,0 +1,84 @@
+package com.pinterest.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pinterest.auth.dto.UserResponse;
+import com.pinterest.auth.dto.UserSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read-through caches for user profiles. Full profiles carry the avatar, so that cache is
+ * bounded by an estimate of retained bytes rather than entry count. Summaries are small and
+ * never include the avatar.
+ */
+@Component
+public class UserProfileCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final Cache<Long, UserResponse> profiles;
+    private final Cache<Long, UserSummaryResponse> summaries;
+
+    public UserProfileCache(@Value("${auth.profile-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${auth.profile-cache.summary-max-entries:200000}") long summaryMaxEntries,
+            @Value("${auth.profile-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.profiles = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, UserResponse profile) -> estimateBytes(profile))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(summaryMaxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "auth.profiles");
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, "auth.profile-summaries");
+    }
+
+    public UserResponse getProfile(Long userId, Function<Long, UserResponse> loader) {
+        return profiles.get(userId, loader);
+    }
+
+    /**
+     * Returns the cached profiles and loads all misses with a single call to {@code loader}.
+     * Ids that do not exist are absent from the result.
+     */
+    public Map<Long, UserResponse> getProfiles(Collection<Long> userIds,
+            Function<Set<? extends Long>, Map<Long, UserResponse>> loader) {
+        return profiles.getAll(userIds, loader);
+    }
+
+    public Map<Long, UserSummaryResponse> getSummaries(Collection<Long> userIds,
+            Function<Set<? extends Long>, Map<Long, UserSummaryResponse>> loader) {
+        return summaries.getAll(userIds, loader);
+    }
+
+    public void invalidate(Long userId) {
+        profiles.invalidate(userId);
+        summaries.invalidate(userId);
+    }
+
+    private static int estimateBytes(UserResponse profile) {
+        long chars = length(profile.getEmail()) + length(profile.getUsername()) + length(profile.getFirstName())
+                + length(profile.getLastName()) + length(profile.getBio()) + length(profile.getAvatar())
+                + length(profile.getMobileNumber());
+        // Compact strings keep Latin-1 text such as base64 avatars at one byte per char.
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + chars);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
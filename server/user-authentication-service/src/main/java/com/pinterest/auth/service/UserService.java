@@ -3,15 +3,29 @@ package com.pinterest.auth.service;
 import com.pinterest.auth.dto.*;
 import com.pinterest.auth.entity.User;
 import com.pinterest.auth.exception.CustomException;
+import com.pinterest.auth.mapper.UserMapper;
 import com.pinterest.auth.repository.UserRepository;
 import com.pinterest.auth.util.JwtUtil;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,7 +35,13 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final UserProfileCache userProfileCache;
+    private final UserAutocompleteIndex userAutocompleteIndex;
+    private final AvatarThumbnails avatarThumbnails;
+
+    private static final int MAX_BATCH_IDS = 1000;
+    private static final int MAX_AUTOCOMPLETE_RESULTS = 20;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -60,6 +80,8 @@ public class UserService {
             log.info("Saving user to database...");
             user = userRepository.save(user);
             log.info("User saved with ID: {}", user.getId());
+            User registered = user;
+            afterCommit(() -> userAutocompleteIndex.index(registered));
 
             log.info("Generating JWT token...");
             String token = jwtUtil.generateToken(user.getEmail(), user.getId());
@@ -140,9 +162,12 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserResponse getUserProfile(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException("User not found"));
-        return modelMapper.map(user, UserResponse.class);
+        UserResponse profile = userProfileCache.getProfile(userId,
+                id -> userRepository.findById(id).map(userMapper::toResponse).orElse(null));
+        if (profile == null) {
+            throw new CustomException("User not found");
+        }
+        return profile;
     }
 
     @Transactional
@@ -163,24 +188,103 @@ public class UserService {
             user.setAvatar(updateRequest.getAvatar());
         }
 
-        user = userRepository.save(user);
-        return modelMapper.map(user, UserResponse.class);
+        User updated = userRepository.save(user);
+        afterCommit(() -> {
+            userProfileCache.invalidate(userId);
+            userAutocompleteIndex.index(updated);
+        });
+        return userMapper.toResponse(updated);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserSummaryResponse> autocompleteUsers(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_AUTOCOMPLETE_RESULTS));
+        if (!userAutocompleteIndex.isReady()) {
+            return userRepository.findSummariesByUsernamePrefix(escapeLike(prefix.trim()), PageRequest.of(0, size));
+        }
+        return userAutocompleteIndex.complete(prefix, size);
     }
 
     @Transactional(readOnly = true)
-    public java.util.List<UserResponse> searchUsers(String keyword) {
-        java.util.List<User> users = userRepository
+    public List<UserResponse> searchUsers(String keyword) {
+        List<User> users = userRepository
                 .findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCase(keyword, keyword);
         return users.stream()
-                .map(user -> modelMapper.map(user, UserResponse.class))
-                .collect(java.util.stream.Collectors.toList());
+                .map(userMapper::toResponse)
+                .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    public java.util.List<UserResponse> getUsersByIds(java.util.List<Long> userIds) {
-        java.util.List<User> users = userRepository.findAllById(userIds);
-        return users.stream()
-                .map(user -> modelMapper.map(user, UserResponse.class))
-                .collect(java.util.stream.Collectors.toList());
+    public List<UserResponse> getUsersByIds(List<Long> userIds) {
+        Set<Long> ids = distinctIds(userIds);
+        Map<Long, UserResponse> profiles = userProfileCache.getProfiles(ids,
+                misses -> userRepository.findAllById(new ArrayList<>(misses)).stream()
+                        .collect(Collectors.toMap(User::getId, userMapper::toResponse)));
+        return inRequestOrder(ids, profiles);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserSummaryResponse> getUserSummaries(List<Long> userIds) {
+        Set<Long> ids = distinctIds(userIds);
+        Map<Long, UserSummaryResponse> summaries = userProfileCache.getSummaries(ids,
+                misses -> userRepository.findSummariesByIdIn(new ArrayList<>(misses)).stream()
+                        .collect(Collectors.toMap(UserSummaryResponse::getId, Function.identity())));
+        return inRequestOrder(ids, summaries);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> getAvatarETag(Long userId) {
+        return userRepository.findAvatarUpdatedAtById(userId)
+                .map(updatedAt -> "\"avatar-" + userId + "-" + Timestamp.valueOf(updatedAt).getTime() + "\"");
+    }
+
+    public Optional<AvatarImage> getAvatarThumbnail(Long userId, String eTag) {
+        return Optional.ofNullable(avatarThumbnails.get(userId, eTag,
+                () -> userRepository.findAvatarById(userId).orElse(null)));
+    }
+
+    private Set<Long> distinctIds(Collection<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : userIds) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new CustomException("At most " + MAX_BATCH_IDS + " user ids can be requested at once");
+        }
+        return ids;
+    }
+
+    private static <T> List<T> inRequestOrder(Set<Long> ids, Map<Long, T> found) {
+        List<T> ordered = new ArrayList<>(found.size());
+        for (Long id : ids) {
+            T value = found.get(id);
+            if (value != null) {
+                ordered.add(value);
+            }
+        }
+        return ordered;
+    }
+
+    // Matches the ESCAPE '\' clause of the prefix query, so user input can't act as a wildcard.
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
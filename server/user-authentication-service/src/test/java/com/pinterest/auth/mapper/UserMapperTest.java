@@ -0,0 +1,51 @@
+package com.pinterest.auth.mapper;
+
+import com.pinterest.auth.dto.UserResponse;
+import com.pinterest.auth.entity.User;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Checks the generated user mapper against the default ModelMapper configuration it replaced. */
+class UserMapperTest {
+
+    private final UserMapper userMapper = new UserMapperImpl();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void toResponseMatchesModelMapper() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("ada@example.com");
+        user.setUsername("ada");
+        user.setPassword("$2a$10$hash");
+        user.setFirstName("Ada");
+        user.setLastName("Lovelace");
+        user.setBio("Pins about engines");
+        user.setAvatar("data:image/png;base64,AAAA");
+        user.setMobileNumber("5550100");
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        user.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 12, 0));
+
+        UserResponse response = userMapper.toResponse(user);
+
+        assertThat(response).usingRecursiveComparison().isEqualTo(modelMapper.map(user, UserResponse.class));
+        assertThat(response).hasNoNullFieldsOrProperties();
+    }
+
+    @Test
+    void toResponseMatchesModelMapperWithNullFields() {
+        User user = new User();
+        user.setId(2L);
+        user.setEmail("grace@example.com");
+
+        UserResponse response = userMapper.toResponse(user);
+
+        assertThat(response).usingRecursiveComparison().isEqualTo(modelMapper.map(user, UserResponse.class));
+        assertThat(response.getAvatar()).isNull();
+        assertThat(response.getCreatedAt()).isNull();
+    }
+}
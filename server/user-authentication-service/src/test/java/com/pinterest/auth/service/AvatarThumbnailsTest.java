@@ -0,0 +1,84 @@
+package com.pinterest.auth.service;
+
+import com.pinterest.auth.dto.AvatarImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvatarThumbnailsTest {
+
+    private final AvatarThumbnails thumbnails = new AvatarThumbnails(1 << 20, 96, 4_000_000, new SimpleMeterRegistry());
+
+    @Test
+    void scalesLargeAvatarToThumbnail() throws IOException {
+        byte[] png = png(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB));
+
+        AvatarImage thumbnail = thumbnails.get(1L, "v1", () -> dataUrl("image/png", png));
+
+        assertThat(thumbnail.getContentType()).isEqualTo("image/png");
+        BufferedImage scaled = ImageIO.read(new ByteArrayInputStream(thumbnail.getData()));
+        assertThat(scaled.getWidth()).isEqualTo(96);
+        assertThat(scaled.getHeight()).isEqualTo(48);
+    }
+
+    @Test
+    void servesSmallAvatarAsStored() throws IOException {
+        byte[] png = png(new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB));
+
+        AvatarImage thumbnail = thumbnails.get(1L, "v1", () -> dataUrl("image/png", png));
+
+        assertThat(thumbnail.getData()).isEqualTo(png);
+    }
+
+    @Test
+    void servesAvatarDeclaringHugeDimensionsAsStoredWithoutDecoding() throws IOException {
+        byte[] bomb = withDeclaredSize(png(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB)), 100_000, 100_000);
+
+        AvatarImage thumbnail = thumbnails.get(1L, "v1", () -> dataUrl("image/png", bomb));
+
+        assertThat(thumbnail.getData()).isEqualTo(bomb);
+        assertThat(thumbnail.getContentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    void servesUndecodableAvatarAsOctetStream() {
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes();
+
+        AvatarImage thumbnail = thumbnails.get(1L, "v1", () -> dataUrl("image/svg+xml", svg));
+
+        assertThat(thumbnail.getData()).isEqualTo(svg);
+        assertThat(thumbnail.getContentType()).isEqualTo("application/octet-stream");
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    // Rewrites the IHDR chunk, which directly follows the 8-byte signature, and its CRC.
+    private static byte[] withDeclaredSize(byte[] png, int width, int height) {
+        byte[] patched = png.clone();
+        ByteBuffer buffer = ByteBuffer.wrap(patched);
+        buffer.putInt(16, width);
+        buffer.putInt(20, height);
+        CRC32 crc = new CRC32();
+        crc.update(patched, 12, 17);
+        buffer.putInt(29, (int) crc.getValue());
+        return patched;
+    }
+
+    private static String dataUrl(String contentType, byte[] data) {
+        return "data:" + contentType + ";base64," + Base64.getEncoder().encodeToString(data);
+    }
+}
@@ -0,0 +1,79 @@
+package com.pinterest.auth.service;
+
+import com.pinterest.auth.dto.UserSummaryResponse;
+import com.pinterest.auth.entity.User;
+import com.pinterest.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserAutocompleteIndexTest {
+
+    private UserAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, "alice", "alice@example.com", "Alice", "A"});
+        rows.add(new Object[]{2L, "Alicia", "ally@example.com", "Alicia", "B"});
+        rows.add(new Object[]{3L, "bob", "robert@example.com", "Bob", null});
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.findAutocompleteFields(eq(0L), any(Pageable.class))).thenReturn(rows);
+
+        index = new UserAutocompleteIndex(repository);
+        index.rebuild();
+    }
+
+    @Test
+    void matchesUsernamePrefixIgnoringCase() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(ids(index.complete("  ALI", 10))).containsExactly(1L, 2L);
+        assertThat(index.complete("alicia", 10)).singleElement()
+                .satisfies(summary -> assertThat(summary.getUsername()).isEqualTo("Alicia"));
+    }
+
+    @Test
+    void matchesEmailLocalPartButNotDomain() {
+        assertThat(ids(index.complete("rob", 10))).containsExactly(3L);
+        assertThat(ids(index.complete("all", 10))).containsExactly(2L);
+        assertThat(index.complete("example", 10)).isEmpty();
+    }
+
+    @Test
+    void ordersByMatchingKeyAndStopsAtLimit() {
+        assertThat(ids(index.complete("a", 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.complete("a", 1))).containsExactly(1L);
+    }
+
+    @Test
+    void ignoresBlankPrefix() {
+        assertThat(index.complete("   ", 10)).isEmpty();
+        assertThat(index.complete(null, 10)).isEmpty();
+    }
+
+    @Test
+    void reindexingAUserDropsItsOldKeys() {
+        User renamed = new User();
+        renamed.setId(3L);
+        renamed.setUsername("zed");
+        renamed.setEmail("zed@example.com");
+        index.index(renamed);
+
+        assertThat(index.complete("bob", 10)).isEmpty();
+        assertThat(index.complete("rob", 10)).isEmpty();
+        assertThat(ids(index.complete("ze", 10))).containsExactly(3L);
+    }
+
+    private static List<Long> ids(List<UserSummaryResponse> summaries) {
+        return summaries.stream().map(UserSummaryResponse::getId).toList();
+    }
+}